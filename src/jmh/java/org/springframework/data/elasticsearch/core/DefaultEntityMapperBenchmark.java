@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.common.bytes.BytesReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.core.geo.CustomGeoModule;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.elasticsearch.entities.Author;
+import org.springframework.data.elasticsearch.entities.Book;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Per document cost of mapping entities. The {@code objectMapper} benchmarks reproduce the former behaviour of a
+ * generic {@link ObjectMapper} working on Strings and serve as baseline for {@link DefaultEntityMapper}, which reuses
+ * per class readers and writers. The {@code afterburner} benchmarks measure the mapper with Afterburner registered.
+ * <p>
+ * Run with {@code mvn -P jmh test-compile exec:java -Dexec.args="DefaultEntityMapperBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DefaultEntityMapperBenchmark {
+
+	private ObjectMapper objectMapper;
+	private DefaultEntityMapper entityMapper;
+	private DefaultEntityMapper afterburnerEntityMapper;
+	private SampleEntity sampleEntity;
+	private Book book;
+	private String sampleEntityJson;
+	private byte[] sampleEntityBytes;
+	private String bookJson;
+	private byte[] bookBytes;
+
+	@Setup
+	public void setUp() throws IOException {
+		objectMapper = new ObjectMapper();
+		objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		objectMapper.configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
+		objectMapper.registerModule(new CustomGeoModule());
+		entityMapper = new DefaultEntityMapper();
+		afterburnerEntityMapper = new DefaultEntityMapper(true);
+
+		sampleEntity = SampleEntity.builder().id("1").type("test").message("some message to map").rate(10)
+				.available(true).highlightedMessage("some <em>message</em>").location(new GeoPoint(45.7806, 3.0875))
+				.version(42L).build();
+		Author author = new Author();
+		author.setId("2");
+		author.setName("some author");
+		book = Book.builder().id("3").name("some book").author(author).buckets(new HashMap<>()).build();
+		book.getBuckets().put(1, Arrays.asList("first", "second"));
+		book.getBuckets().put(2, Arrays.asList("third"));
+
+		sampleEntityJson = objectMapper.writeValueAsString(sampleEntity);
+		sampleEntityBytes = sampleEntityJson.getBytes(StandardCharsets.UTF_8);
+		bookJson = objectMapper.writeValueAsString(book);
+		bookBytes = bookJson.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public SampleEntity readSampleEntityObjectMapper() throws IOException {
+		return objectMapper.readValue(sampleEntityJson, SampleEntity.class);
+	}
+
+	@Benchmark
+	public SampleEntity readSampleEntity() throws IOException {
+		return entityMapper.mapToObject(sampleEntityBytes, 0, sampleEntityBytes.length, SampleEntity.class);
+	}
+
+	@Benchmark
+	public SampleEntity readSampleEntityAfterburner() throws IOException {
+		return afterburnerEntityMapper.mapToObject(sampleEntityBytes, 0, sampleEntityBytes.length, SampleEntity.class);
+	}
+
+	@Benchmark
+	public Book readBookObjectMapper() throws IOException {
+		return objectMapper.readValue(bookJson, Book.class);
+	}
+
+	@Benchmark
+	public Book readBook() throws IOException {
+		return entityMapper.mapToObject(bookBytes, 0, bookBytes.length, Book.class);
+	}
+
+	@Benchmark
+	public Book readBookAfterburner() throws IOException {
+		return afterburnerEntityMapper.mapToObject(bookBytes, 0, bookBytes.length, Book.class);
+	}
+
+	@Benchmark
+	public byte[] writeSampleEntityObjectMapper() throws IOException {
+		return objectMapper.writeValueAsString(sampleEntity).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public BytesReference writeSampleEntity() throws IOException {
+		return entityMapper.mapToBytes(sampleEntity);
+	}
+
+	@Benchmark
+	public BytesReference writeSampleEntityAfterburner() throws IOException {
+		return afterburnerEntityMapper.mapToBytes(sampleEntity);
+	}
+
+	@Benchmark
+	public byte[] writeBookObjectMapper() throws IOException {
+		return objectMapper.writeValueAsString(book).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public BytesReference writeBook() throws IOException {
+		return entityMapper.mapToBytes(book);
+	}
+
+	@Benchmark
+	public BytesReference writeBookAfterburner() throws IOException {
+		return afterburnerEntityMapper.mapToBytes(book);
+	}
+}
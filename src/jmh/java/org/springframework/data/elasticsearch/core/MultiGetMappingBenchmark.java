@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.get.MultiGetItemResponse;
+import org.elasticsearch.action.get.MultiGetResponse;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.index.get.GetResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+
+/**
+ * Cost of mapping a large multiGet response into a {@link LinkedList} compared to the array backed, request ordered
+ * list. Every tenth id is missing. Run with {@code -prof gc} to compare the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MultiGetMappingBenchmark {
+
+	@Param({ "10000" })
+	private int ids;
+
+	private DefaultResultMapper resultMapper;
+	private MultiGetResponse response;
+
+	@Setup
+	public void setUp() {
+		resultMapper = new DefaultResultMapper(new SimpleElasticsearchMappingContext());
+		MultiGetItemResponse[] items = new MultiGetItemResponse[ids];
+		for (int i = 0; i < ids; i++) {
+			String id = String.valueOf(i);
+			boolean exists = i % 10 != 0;
+			BytesArray source = exists
+					? new BytesArray("{\"id\":\"" + id + "\",\"message\":\"some message " + id + "\",\"rate\":" + i + "}")
+					: null;
+			items[i] = new MultiGetItemResponse(
+					new GetResponse(new GetResult("test-index", "test-type", id, 1L, exists, source, null)), null);
+		}
+		response = new MultiGetResponse(items);
+	}
+
+	@Benchmark
+	public LinkedList<SampleEntity> linkedList() {
+		return resultMapper.mapResults(response, SampleEntity.class);
+	}
+
+	@Benchmark
+	public List<SampleEntity> inOrder() {
+		return resultMapper.mapResultsInOrder(response, SampleEntity.class);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.mapping;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Per call cost of resolving index names. The {@code parseOnEveryCall} benchmarks reproduce the former behaviour of
+ * parsing the template on every access and serve as baseline for the cached getters.
+ * <p>
+ * Run with {@code mvn -P jmh test-compile exec:java -Dexec.args="SimpleElasticsearchPersistentEntityBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SimpleElasticsearchPersistentEntityBenchmark {
+
+	private SimpleElasticsearchPersistentEntity<LiteralEntity> literalEntity;
+	private SimpleElasticsearchPersistentEntity<ExpressionEntity> expressionEntity;
+	private SpelExpressionParser parser;
+	private StandardEvaluationContext context;
+
+	@Setup
+	public void setUp() {
+		literalEntity = new SimpleElasticsearchPersistentEntity<>(ClassTypeInformation.from(LiteralEntity.class));
+		expressionEntity = new SimpleElasticsearchPersistentEntity<>(ClassTypeInformation.from(ExpressionEntity.class));
+		parser = new SpelExpressionParser();
+		context = new StandardEvaluationContext();
+	}
+
+	@Benchmark
+	public String literalIndexNameParseOnEveryCall() {
+		return parser.parseExpression("benchmark-index", ParserContext.TEMPLATE_EXPRESSION).getValue(context,
+				String.class);
+	}
+
+	@Benchmark
+	public String literalIndexName() {
+		return literalEntity.getIndexName();
+	}
+
+	@Benchmark
+	public String expressionIndexNameParseOnEveryCall() {
+		return parser.parseExpression("#{'benchmark-' + 'index'}", ParserContext.TEMPLATE_EXPRESSION)
+				.getValue(context, String.class);
+	}
+
+	@Benchmark
+	public String expressionIndexName() {
+		return expressionEntity.getIndexName();
+	}
+
+	@Document(indexName = "benchmark-index")
+	static class LiteralEntity {}
+
+	@Document(indexName = "#{'benchmark-' + 'index'}")
+	static class ExpressionEntity {}
+}
@@ -48,4 +48,13 @@ public @interface Document {
 	String indexStoreType() default "fs";
 
 	boolean createIndex() default true;
+
+	/**
+	 * Refresh policy applied by repositories when writing entities of this type. Defaults to
+	 * {@link RefreshPolicy#IMMEDIATE}, so a search observes a write as soon as the repository call returns. Entities
+	 * written at high rates that can live with the next scheduled refresh of the index may use
+	 * {@link RefreshPolicy#NONE}; note that {@link RefreshPolicy#WAIT_UNTIL} never returns for indices with a
+	 * {@link #refreshInterval()} of {@literal -1}.
+	 */
+	RefreshPolicy refreshPolicy() default RefreshPolicy.IMMEDIATE;
 }
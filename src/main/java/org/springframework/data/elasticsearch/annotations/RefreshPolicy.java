@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.annotations;
+
+/**
+ * Controls when the changes made by a write request become visible to search.
+ */
+public enum RefreshPolicy {
+
+	/**
+	 * Do not refresh; changes become visible with the next scheduled refresh of the index.
+	 */
+	NONE,
+
+	/**
+	 * Refresh the affected shards as part of the write request.
+	 */
+	IMMEDIATE,
+
+	/**
+	 * Keep the write request open until a scheduled refresh has made the changes visible.
+	 */
+	WAIT_UNTIL
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Configures the scroll backing a repository query method returning a {@link java.util.stream.Stream}, derived or
+ * annotated with {@link Query}. The memory held by such a stream is bounded by the batch size, independent of the
+ * number of results.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface Scroll {
+
+	/**
+	 * Number of documents fetched per scroll request. Defaults to the scroll batch size of the
+	 * {@link org.springframework.data.elasticsearch.core.ElasticsearchTemplate}.
+	 *
+	 * @return
+	 */
+	int batchSize() default -1;
+
+	/**
+	 * How long the scroll context is kept alive between two scroll requests, e.g. {@code 30s} or {@code 5m}. Defaults
+	 * to the scroll keep alive of the {@link org.springframework.data.elasticsearch.core.ElasticsearchTemplate}.
+	 *
+	 * @return
+	 */
+	String keepAlive() default "";
+}
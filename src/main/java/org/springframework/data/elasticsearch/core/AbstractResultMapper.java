@@ -18,7 +18,9 @@ package org.springframework.data.elasticsearch.core;
 import static org.apache.commons.lang.StringUtils.*;
 
 import java.io.IOException;
+import java.util.Map;
 
+import org.elasticsearch.common.bytes.BytesReference;
 import org.springframework.data.elasticsearch.ElasticsearchException;
 
 /**
@@ -43,6 +45,41 @@ public abstract class AbstractResultMapper implements ResultsMapper {
 		}
 	}
 
+	/**
+	 * Maps the given JSON bytes without decoding them into a {@link String} first.
+	 *
+	 * @param source may be {@literal null}.
+	 * @param clazz the target type.
+	 * @return the mapped entity or {@literal null} if the source is empty.
+	 */
+	public <T> T mapEntity(BytesReference source, Class<T> clazz) {
+		if (source == null || source.length() == 0) {
+			return null;
+		}
+		try {
+			return entityMapper.mapToObject(source, clazz);
+		} catch (IOException e) {
+			throw new ElasticsearchException(
+					"failed to map source [ " + source.utf8ToString() + "] to class " + clazz.getSimpleName(), e);
+		}
+	}
+
+	/**
+	 * Maps already parsed values, e.g. stored fields, without building a JSON document first.
+	 *
+	 * @param values the values keyed by property name.
+	 * @param clazz the target type.
+	 * @return the mapped entity.
+	 */
+	public <T> T mapEntity(Map<String, ?> values, Class<T> clazz) {
+		try {
+			return entityMapper.mapToObject(values, clazz);
+		} catch (IOException e) {
+			throw new ElasticsearchException("failed to map fields " + values.keySet() + " to class " + clazz.getSimpleName(),
+					e);
+		}
+	}
+
 	@Override
 	public EntityMapper getEntityMapper() {
 		return this.entityMapper;
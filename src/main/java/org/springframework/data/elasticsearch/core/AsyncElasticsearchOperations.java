@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.elasticsearch.action.update.UpdateResponse;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.aggregation.AggregatedPage;
+import org.springframework.data.elasticsearch.core.query.GetQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.MultiGetItem;
+import org.springframework.data.elasticsearch.core.query.SearchQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+/**
+ * Non-blocking companion of {@link ElasticsearchOperations}. Requests are sent through the transport client without
+ * waiting for the response, and results are mapped on the configured mapping executor rather than on the transport
+ * I/O thread.
+ * <p>
+ * Index and type names (including dynamic ones) are resolved on the calling thread, before the request is sent.
+ */
+public interface AsyncElasticsearchOperations {
+
+	/**
+	 * Execute the query against elasticsearch and return the first returned object
+	 *
+	 * @param query
+	 * @param clazz
+	 * @return the first matching object
+	 */
+	<T> CompletableFuture<T> queryForObjectAsync(GetQuery query, Class<T> clazz);
+
+	/**
+	 * Check whether the document with the id of the given query exists, without fetching its source.
+	 *
+	 * @param query
+	 * @param clazz
+	 * @return whether the document exists
+	 */
+	<T> CompletableFuture<Boolean> existsAsync(GetQuery query, Class<T> clazz);
+
+	/**
+	 * Execute the query against elasticsearch and return result as {@link AggregatedPage}
+	 *
+	 * @param query
+	 * @param clazz
+	 * @return
+	 */
+	<T> CompletableFuture<AggregatedPage<T>> queryForPageAsync(SearchQuery query, Class<T> clazz);
+
+	/**
+	 * Execute the query against elasticsearch and return result as {@link AggregatedPage} using custom mapper
+	 *
+	 * @param query
+	 * @param clazz
+	 * @param mapper
+	 * @return
+	 */
+	<T> CompletableFuture<AggregatedPage<T>> queryForPageAsync(SearchQuery query, Class<T> clazz,
+			SearchResultMapper mapper);
+
+	/**
+	 * Execute a multiGet against elasticsearch for the given ids
+	 *
+	 * @param searchQuery
+	 * @param clazz
+	 * @return
+	 */
+	<T> CompletableFuture<LinkedList<T>> multiGetAsync(SearchQuery searchQuery, Class<T> clazz);
+
+	/**
+	 * Execute a multiGet against elasticsearch for the given ids and return one element per id, in the order of the ids,
+	 * with {@literal null} for ids that were not found.
+	 *
+	 * @param searchQuery
+	 * @param clazz
+	 * @return
+	 */
+	<T> CompletableFuture<List<T>> multiGetInOrderAsync(SearchQuery searchQuery, Class<T> clazz);
+
+	/**
+	 * Execute a single multiGet against elasticsearch for documents of possibly different indices, types and routings
+	 * and return one element per item, in the order of the items, with {@literal null} for documents that were not
+	 * found.
+	 *
+	 * @param items the documents to get, must not be {@literal null} or empty.
+	 * @param clazz
+	 * @return
+	 */
+	<T> CompletableFuture<List<T>> multiGetInOrderAsync(List<MultiGetItem> items, Class<T> clazz);
+
+	/**
+	 * return number of elements found by given query
+	 *
+	 * @param query
+	 * @param clazz
+	 * @return
+	 */
+	<T> CompletableFuture<Long> countAsync(SearchQuery query, Class<T> clazz);
+
+	/**
+	 * Index an object. Will do save or update
+	 *
+	 * @param query
+	 * @return the document id
+	 */
+	CompletableFuture<String> indexAsync(IndexQuery query);
+
+	/**
+	 * Partial update of the document
+	 *
+	 * @param updateQuery
+	 * @return
+	 */
+	CompletableFuture<UpdateResponse> updateAsync(UpdateQuery updateQuery);
+
+	/**
+	 * Bulk index all objects. Will do save or update. Completes exceptionally with
+	 * {@link org.springframework.data.elasticsearch.ElasticsearchException} if any document failed.
+	 *
+	 * @param queries
+	 */
+	CompletableFuture<Void> bulkIndexAsync(List<IndexQuery> queries);
+
+	/**
+	 * Delete the one object with provided id
+	 *
+	 * @param indexName
+	 * @param type
+	 * @param id
+	 * @return documentId of the document deleted
+	 */
+	CompletableFuture<String> deleteAsync(String indexName, String type, String id);
+
+	/**
+	 * Delete the one object with provided id, applying the given refresh policy to the delete request
+	 *
+	 * @param indexName
+	 * @param type
+	 * @param id
+	 * @param refreshPolicy may be {@literal null} to use the cluster default.
+	 * @return documentId of the document deleted
+	 */
+	CompletableFuture<String> deleteAsync(String indexName, String type, String id, RefreshPolicy refreshPolicy);
+
+	/**
+	 * Delete the one object with provided id
+	 *
+	 * @param clazz
+	 * @param id
+	 * @return documentId of the document deleted
+	 */
+	<T> CompletableFuture<String> deleteAsync(Class<T> clazz, String id);
+}
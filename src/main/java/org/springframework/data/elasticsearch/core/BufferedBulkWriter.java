@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.unit.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.util.Assert;
+
+/**
+ * Buffers index, update and delete actions and sends them as bulks once the thresholds configured by
+ * {@link BulkOptions} are reached. Failures of single actions are reported to a {@link BulkFailureListener} instead of
+ * failing the whole bulk.
+ * <p>
+ * Obtain instances through {@link ElasticsearchTemplate#bufferedBulkWriter(BulkOptions, BulkFailureListener)} and
+ * {@link #close()} them to flush the remaining actions. Unlike {@link ElasticsearchTemplate#index(IndexQuery)}, ids
+ * generated by Elasticsearch are not written back to the indexed objects, and refresh policies set on single queries
+ * are ignored in favour of {@link BulkOptions#getRefreshPolicy()}.
+ */
+public class BufferedBulkWriter implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(BufferedBulkWriter.class);
+
+	private final ElasticsearchTemplate elasticsearchTemplate;
+	private final BulkProcessor bulkProcessor;
+
+	BufferedBulkWriter(ElasticsearchTemplate elasticsearchTemplate, BulkOptions options,
+			BulkFailureListener failureListener) {
+
+		Assert.notNull(elasticsearchTemplate, "ElasticsearchTemplate must not be null!");
+		Assert.notNull(options, "BulkOptions must not be null!");
+
+		this.elasticsearchTemplate = elasticsearchTemplate;
+
+		BulkProcessor.Builder builder = BulkProcessor
+				.builder(elasticsearchTemplate.getClient(),
+						new FailureReportingListener(options.getRefreshPolicy() != null
+								? ElasticsearchTemplate.toWriteRefreshPolicy(options.getRefreshPolicy()) : null,
+								failureListener != null ? failureListener : new LoggingBulkFailureListener()))
+				.setBulkActions(options.getBulkActions()) //
+				.setBulkSize(new ByteSizeValue(options.getBulkSizeInBytes())) //
+				.setConcurrentRequests(options.getConcurrentRequests());
+		if (options.getFlushIntervalInMillis() != null) {
+			builder.setFlushInterval(TimeValue.timeValueMillis(options.getFlushIntervalInMillis()));
+		}
+		this.bulkProcessor = builder.build();
+	}
+
+	/**
+	 * Buffers an index action. Will do save or update.
+	 *
+	 * @param query
+	 */
+	public void index(IndexQuery query) {
+		bulkProcessor.add(elasticsearchTemplate.prepareIndex(query).request());
+	}
+
+	/**
+	 * Buffers a partial update of a document.
+	 *
+	 * @param query
+	 */
+	public void update(UpdateQuery query) {
+		bulkProcessor.add(elasticsearchTemplate.prepareUpdate(query).request());
+	}
+
+	/**
+	 * Buffers the deletion of the document with the given id.
+	 *
+	 * @param indexName
+	 * @param type
+	 * @param id
+	 */
+	public void delete(String indexName, String type, String id) {
+		bulkProcessor.add(new DeleteRequest(indexName, type, id));
+	}
+
+	/**
+	 * Buffers the deletion of the document with the given id.
+	 *
+	 * @param clazz
+	 * @param id
+	 */
+	public <T> void delete(Class<T> clazz, String id) {
+		ElasticsearchPersistentEntity<?> persistentEntity = elasticsearchTemplate.getPersistentEntityFor(clazz);
+		delete(persistentEntity.getIndexName(), persistentEntity.getIndexType(), id);
+	}
+
+	/**
+	 * Sends the buffered actions without waiting for the bulk to complete.
+	 */
+	public void flush() {
+		bulkProcessor.flush();
+	}
+
+	/**
+	 * Sends the buffered actions and waits for all in-flight bulks to complete.
+	 *
+	 * @param timeout
+	 * @param unit
+	 * @return {@literal true} if all bulks completed before the timeout elapsed.
+	 * @throws InterruptedException
+	 */
+	public boolean awaitClose(long timeout, TimeUnit unit) throws InterruptedException {
+		return bulkProcessor.awaitClose(timeout, unit);
+	}
+
+	/**
+	 * Sends the buffered actions. In-flight bulks keep running in the background; use
+	 * {@link #awaitClose(long, TimeUnit)} to wait for them.
+	 */
+	@Override
+	public void close() {
+		bulkProcessor.close();
+	}
+
+	private static class FailureReportingListener implements BulkProcessor.Listener {
+
+		private final WriteRequest.RefreshPolicy refreshPolicy;
+		private final BulkFailureListener failureListener;
+
+		FailureReportingListener(WriteRequest.RefreshPolicy refreshPolicy, BulkFailureListener failureListener) {
+			this.refreshPolicy = refreshPolicy;
+			this.failureListener = failureListener;
+		}
+
+		@Override
+		public void beforeBulk(long executionId, BulkRequest request) {
+			if (refreshPolicy != null) {
+				request.setRefreshPolicy(refreshPolicy);
+			}
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+			if (response.hasFailures()) {
+				for (BulkItemResponse item : response.getItems()) {
+					if (item.isFailed()) {
+						failureListener.onItemFailure(item.getFailure());
+					}
+				}
+			}
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+			failureListener.onBulkFailure(request, failure);
+		}
+	}
+
+	private static class LoggingBulkFailureListener implements BulkFailureListener {
+
+		@Override
+		public void onItemFailure(BulkItemResponse.Failure failure) {
+			logger.error("Bulk action failed for document [index: {}, type: {}, id: {}]: {}", failure.getIndex(),
+					failure.getType(), failure.getId(), failure.getMessage());
+		}
+
+		@Override
+		public void onBulkFailure(BulkRequest request, Throwable failure) {
+			logger.error("Bulk of " + request.numberOfActions() + " actions failed", failure);
+		}
+	}
+}
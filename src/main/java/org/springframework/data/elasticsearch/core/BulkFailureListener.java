@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+
+/**
+ * Callback notified of the failures of bulks sent by a {@link BufferedBulkWriter}. Callbacks are invoked on the thread
+ * completing the bulk and must not block.
+ */
+public interface BulkFailureListener {
+
+	/**
+	 * Called for every single action the cluster rejected while the rest of its bulk succeeded.
+	 *
+	 * @param failure index, type, id and cause of the failed action.
+	 */
+	void onItemFailure(BulkItemResponse.Failure failure);
+
+	/**
+	 * Called when a bulk as a whole could not be executed, e.g. because no node was reachable.
+	 *
+	 * @param request the failed bulk.
+	 * @param failure
+	 */
+	void onBulkFailure(BulkRequest request, Throwable failure);
+}
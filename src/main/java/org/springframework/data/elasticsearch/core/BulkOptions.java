@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
+
+/**
+ * Flush and concurrency settings of a {@link BufferedBulkWriter}. A buffered bulk is sent as soon as any of the
+ * configured thresholds is reached.
+ *
+ * @see BulkOptionsBuilder
+ */
+public class BulkOptions {
+
+	public static final int DEFAULT_BULK_ACTIONS = 1000;
+	public static final long DEFAULT_BULK_SIZE_IN_BYTES = 5 * 1024 * 1024;
+	public static final int DEFAULT_CONCURRENT_REQUESTS = 1;
+
+	private int bulkActions = DEFAULT_BULK_ACTIONS;
+	private long bulkSizeInBytes = DEFAULT_BULK_SIZE_IN_BYTES;
+	private Long flushIntervalInMillis;
+	private int concurrentRequests = DEFAULT_CONCURRENT_REQUESTS;
+	private RefreshPolicy refreshPolicy;
+
+	public int getBulkActions() {
+		return bulkActions;
+	}
+
+	/**
+	 * @param bulkActions number of buffered actions triggering a flush, {@literal -1} to disable.
+	 */
+	public void setBulkActions(int bulkActions) {
+		this.bulkActions = bulkActions;
+	}
+
+	public long getBulkSizeInBytes() {
+		return bulkSizeInBytes;
+	}
+
+	/**
+	 * @param bulkSizeInBytes size of the buffered actions triggering a flush, {@literal -1} to disable.
+	 */
+	public void setBulkSizeInBytes(long bulkSizeInBytes) {
+		this.bulkSizeInBytes = bulkSizeInBytes;
+	}
+
+	public Long getFlushIntervalInMillis() {
+		return flushIntervalInMillis;
+	}
+
+	/**
+	 * @param flushIntervalInMillis interval after which buffered actions are flushed regardless of their number and size,
+	 *          {@literal null} to disable.
+	 */
+	public void setFlushIntervalInMillis(Long flushIntervalInMillis) {
+		this.flushIntervalInMillis = flushIntervalInMillis;
+	}
+
+	public int getConcurrentRequests() {
+		return concurrentRequests;
+	}
+
+	/**
+	 * @param concurrentRequests maximum number of bulks in flight while new actions are buffered. Adding an action blocks
+	 *          once this limit is reached. {@literal 0} sends each bulk synchronously on the thread triggering the flush.
+	 */
+	public void setConcurrentRequests(int concurrentRequests) {
+		this.concurrentRequests = concurrentRequests;
+	}
+
+	public RefreshPolicy getRefreshPolicy() {
+		return refreshPolicy;
+	}
+
+	/**
+	 * @param refreshPolicy refresh policy applied to every bulk, {@literal null} to use the cluster default.
+	 */
+	public void setRefreshPolicy(RefreshPolicy refreshPolicy) {
+		this.refreshPolicy = refreshPolicy;
+	}
+}
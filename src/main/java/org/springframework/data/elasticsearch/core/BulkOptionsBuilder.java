@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
+
+/**
+ * BulkOptions Builder
+ */
+public class BulkOptionsBuilder {
+
+	private int bulkActions = BulkOptions.DEFAULT_BULK_ACTIONS;
+	private long bulkSizeInBytes = BulkOptions.DEFAULT_BULK_SIZE_IN_BYTES;
+	private Long flushIntervalInMillis;
+	private int concurrentRequests = BulkOptions.DEFAULT_CONCURRENT_REQUESTS;
+	private RefreshPolicy refreshPolicy;
+
+	public BulkOptionsBuilder withBulkActions(int bulkActions) {
+		this.bulkActions = bulkActions;
+		return this;
+	}
+
+	public BulkOptionsBuilder withBulkSizeInBytes(long bulkSizeInBytes) {
+		this.bulkSizeInBytes = bulkSizeInBytes;
+		return this;
+	}
+
+	public BulkOptionsBuilder withFlushIntervalInMillis(Long flushIntervalInMillis) {
+		this.flushIntervalInMillis = flushIntervalInMillis;
+		return this;
+	}
+
+	public BulkOptionsBuilder withConcurrentRequests(int concurrentRequests) {
+		this.concurrentRequests = concurrentRequests;
+		return this;
+	}
+
+	public BulkOptionsBuilder withRefreshPolicy(RefreshPolicy refreshPolicy) {
+		this.refreshPolicy = refreshPolicy;
+		return this;
+	}
+
+	public BulkOptions build() {
+		BulkOptions bulkOptions = new BulkOptions();
+		bulkOptions.setBulkActions(bulkActions);
+		bulkOptions.setBulkSizeInBytes(bulkSizeInBytes);
+		bulkOptions.setFlushIntervalInMillis(flushIntervalInMillis);
+		bulkOptions.setConcurrentRequests(concurrentRequests);
+		bulkOptions.setRefreshPolicy(refreshPolicy);
+		return bulkOptions;
+	}
+}
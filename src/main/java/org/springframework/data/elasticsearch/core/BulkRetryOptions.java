@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.springframework.util.Assert;
+
+/**
+ * Controls which failed items of a bulk are re-submitted and how long to wait between attempts. Items rejected because
+ * of a full thread pool queue are always retried; version conflicts of partial updates and upserts only when
+ * {@link #isRetryVersionConflicts() enabled}. All other failures are permanent.
+ */
+public class BulkRetryOptions {
+
+	private final BackoffPolicy backoffPolicy;
+	private boolean retryVersionConflicts;
+
+	/**
+	 * Retries up to 8 times, starting with a delay of 50ms that grows exponentially.
+	 */
+	public BulkRetryOptions() {
+		this(BackoffPolicy.exponentialBackoff());
+	}
+
+	/**
+	 * @param backoffPolicy delays between attempts; the number of delays is the maximum number of retries.
+	 */
+	public BulkRetryOptions(BackoffPolicy backoffPolicy) {
+		Assert.notNull(backoffPolicy, "BackoffPolicy must not be null!");
+		this.backoffPolicy = backoffPolicy;
+	}
+
+	public BackoffPolicy getBackoffPolicy() {
+		return backoffPolicy;
+	}
+
+	public boolean isRetryVersionConflicts() {
+		return retryVersionConflicts;
+	}
+
+	/**
+	 * @param retryVersionConflicts whether to re-submit updates and upserts that failed with a version conflict.
+	 */
+	public void setRetryVersionConflicts(boolean retryVersionConflicts) {
+		this.retryVersionConflicts = retryVersionConflicts;
+	}
+}
@@ -17,8 +17,8 @@ package org.springframework.data.elasticsearch.core;
 
 import static org.springframework.data.elasticsearch.core.query.Criteria.*;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 
@@ -45,7 +45,7 @@ class CriteriaFilterProcessor {
 
 
 	QueryBuilder createFilterFromCriteria(Criteria criteria) {
-		List<QueryBuilder> fbList = new LinkedList<>();
+		List<QueryBuilder> fbList = new ArrayList<>();
 		QueryBuilder filter = null;
 
 		ListIterator<Criteria> chainIterator = criteria.getCriteriaChain().listIterator();
@@ -86,7 +86,7 @@ class CriteriaFilterProcessor {
 
 	private List<QueryBuilder> createFilterFragmentForCriteria(Criteria chainedCriteria) {
 		Iterator<Criteria.CriteriaEntry> it = chainedCriteria.getFilterCriteriaEntries().iterator();
-		List<QueryBuilder> filterList = new LinkedList<>();
+		List<QueryBuilder> filterList = new ArrayList<>();
 
 		String fieldName = chainedCriteria.getField().getName();
 		Assert.notNull(fieldName, "Unknown field");
@@ -232,7 +232,7 @@ class CriteriaFilterProcessor {
 	}
 
 	private List<QueryBuilder> buildNegationFilter(String fieldName, Iterator<Criteria.CriteriaEntry> it) {
-		List<QueryBuilder> notFilterList = new LinkedList<>();
+		List<QueryBuilder> notFilterList = new ArrayList<>();
 
 		while (it.hasNext()) {
 			Criteria.CriteriaEntry criteriaEntry = it.next();
@@ -19,8 +19,8 @@ import static org.elasticsearch.index.query.Operator.AND;
 import static org.elasticsearch.index.query.QueryBuilders.*;
 import static org.springframework.data.elasticsearch.core.query.Criteria.*;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 
@@ -44,9 +44,9 @@ class CriteriaQueryProcessor {
 		if (criteria == null)
 			return null;
 
-		List<QueryBuilder> shouldQueryBuilderList = new LinkedList<>();
-		List<QueryBuilder> mustNotQueryBuilderList = new LinkedList<>();
-		List<QueryBuilder> mustQueryBuilderList = new LinkedList<>();
+		List<QueryBuilder> shouldQueryBuilderList = new ArrayList<>();
+		List<QueryBuilder> mustNotQueryBuilderList = new ArrayList<>();
+		List<QueryBuilder> mustQueryBuilderList = new ArrayList<>();
 
 		ListIterator<Criteria> chainIterator = criteria.getCriteriaChain().listIterator();
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.function.Function;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * {@link Slice} obtained through {@code search_after}, carrying the sort values of its last document as cursor to
+ * the next page. No total is computed, fetching the next page costs the same regardless of the page's depth.
+ *
+ * @see org.springframework.data.elasticsearch.core.query.SearchAfterPageRequest
+ */
+public interface CursorPage<T> extends Slice<T> {
+
+	/**
+	 * @return the sort values of the last document of this page or {@literal null} if the page is empty.
+	 */
+	Object[] getSearchAfter();
+
+	/**
+	 * @return a {@link org.springframework.data.elasticsearch.core.query.SearchAfterPageRequest} for the next page or
+	 *         {@link Pageable#unpaged()} if this is the last page.
+	 */
+	@Override
+	Pageable nextPageable();
+
+	/**
+	 * @return the request for the first page, as search after cannot page backwards, or {@link Pageable#unpaged()} if
+	 *         this is the first page.
+	 */
+	@Override
+	Pageable previousPageable();
+
+	/**
+	 * @return a new {@link CursorPage} with the converted content, keeping the cursor to the next page.
+	 */
+	@Override
+	<U> CursorPage<U> map(Function<? super T, ? extends U> converter);
+}
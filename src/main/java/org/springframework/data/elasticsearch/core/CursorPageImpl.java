@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.elasticsearch.core.query.SearchAfterPageRequest;
+
+/**
+ * Default implementation of {@link CursorPage}.
+ */
+public class CursorPageImpl<T> extends SliceImpl<T> implements CursorPage<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Object[] searchAfter;
+
+	/**
+	 * @param content the content of this page, must not be {@literal null}.
+	 * @param pageable the request this page was obtained for, must not be {@literal null}.
+	 * @param hasNext whether there is a next page.
+	 * @param searchAfter the sort values of the last document, may be {@literal null} if the page is empty.
+	 */
+	public CursorPageImpl(List<T> content, Pageable pageable, boolean hasNext, Object[] searchAfter) {
+		super(content, pageable, hasNext);
+		this.searchAfter = searchAfter;
+	}
+
+	@Override
+	public Object[] getSearchAfter() {
+		return searchAfter == null ? null : searchAfter.clone();
+	}
+
+	@Override
+	public Pageable nextPageable() {
+		return hasNext() ? SearchAfterPageRequest.of(getNumber() + 1, getSize(), getSort(), searchAfter)
+				: Pageable.unpaged();
+	}
+
+	@Override
+	public Pageable previousPageable() {
+		return hasPrevious() ? getPageable().first() : Pageable.unpaged();
+	}
+
+	@Override
+	public <U> CursorPage<U> map(Function<? super T, ? extends U> converter) {
+		return new CursorPageImpl<>(getConvertedContent(converter), getPageable(), hasNext(), searchAfter);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CursorPageImpl)) {
+			return false;
+		}
+		return super.equals(obj) && Arrays.equals(searchAfter, ((CursorPageImpl<?>) obj).searchAfter);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Arrays.hashCode(searchAfter);
+	}
+}
@@ -17,17 +17,28 @@ package org.springframework.data.elasticsearch.core;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.springframework.beans.BeanUtils;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.core.geo.CustomGeoModule;
 import org.springframework.data.geo.*;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -39,29 +50,101 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 
 
 /**
- * DocumentMapper using jackson
+ * DocumentMapper using jackson. An {@link ObjectReader} and {@link ObjectWriter} is resolved once per entity class and
+ * reused for every document. {@code jackson-module-afterburner} can be registered through
+ * {@link #DefaultEntityMapper(boolean)}, replacing reflective property access with generated bytecode.
  *
  * @author Artur Konczak
  * @author Petar Tahchiev
  */
 public class DefaultEntityMapper implements EntityMapper {
 
+	private static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
 	private ObjectMapper objectMapper;
+	private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+	/**
+	 * Per-thread serialization buffer; it keeps its largest block between documents so that bulk imports do not grow a
+	 * fresh buffer for every document.
+	 */
+	private final ThreadLocal<ByteArrayBuilder> buffers = ThreadLocal.withInitial(ByteArrayBuilder::new);
 
 	public DefaultEntityMapper() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new {@link DefaultEntityMapper}.
+	 *
+	 * @param afterburner whether to register {@code jackson-module-afterburner}, which has to be on the classpath.
+	 * @since 3.1
+	 */
+	public DefaultEntityMapper(boolean afterburner) {
 		objectMapper = new ObjectMapper();
 		objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 		objectMapper.configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
 		objectMapper.registerModule(new CustomGeoModule());
+		if (afterburner) {
+			Assert.state(ClassUtils.isPresent(AFTERBURNER_MODULE, DefaultEntityMapper.class.getClassLoader()),
+					"jackson-module-afterburner must be on the classpath to register it!");
+			objectMapper.registerModule(instantiateModule(AFTERBURNER_MODULE));
+		}
 	}
 
 	@Override
 	public String mapToString(Object object) throws IOException {
-		return objectMapper.writeValueAsString(object);
+		return writerFor(object).writeValueAsString(object);
 	}
 
 	@Override
 	public <T> T mapToObject(String source, Class<T> clazz) throws IOException {
-		return objectMapper.readValue(source, clazz);
+		return readerFor(clazz).readValue(source);
+	}
+
+	@Override
+	public BytesReference mapToBytes(Object object) throws IOException {
+		ByteArrayBuilder buffer = buffers.get();
+		try {
+			writerFor(object).writeValue(buffer, object);
+			// the request keeps the bytes until it is sent, hence the exactly sized copy
+			return new BytesArray(buffer.toByteArray());
+		} finally {
+			buffer.reset();
+		}
+	}
+
+	@Override
+	public <T> T mapToObject(byte[] source, int offset, int length, Class<T> clazz) throws IOException {
+		return readerFor(clazz).readValue(source, offset, length);
+	}
+
+	@Override
+	public <T> T mapToObject(Map<String, ?> values, Class<T> clazz) throws IOException {
+		// binds the values through an in-memory token stream, no JSON text is produced
+		TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+		objectMapper.writeValue(buffer, values);
+		return readerFor(clazz).readValue(buffer.asParser());
+	}
+
+	private ObjectReader readerFor(Class<?> clazz) {
+		ObjectReader reader = readers.get(clazz);
+		return reader != null ? reader : readers.computeIfAbsent(clazz, objectMapper::readerFor);
+	}
+
+	private ObjectWriter writerFor(Object object) {
+		if (object == null) {
+			return objectMapper.writer();
+		}
+		Class<?> clazz = object.getClass();
+		ObjectWriter writer = writers.get(clazz);
+		return writer != null ? writer : writers.computeIfAbsent(clazz, objectMapper::writerFor);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Module instantiateModule(String className) {
+		return BeanUtils.instantiateClass(
+				(Class<? extends Module>) ClassUtils.resolveClassName(className, DefaultEntityMapper.class.getClassLoader()));
 	}
 }
@@ -15,34 +15,38 @@
  */
 package org.springframework.data.elasticsearch.core;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.charset.Charset;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
 
-import org.apache.commons.lang.StringUtils;
 import org.elasticsearch.action.get.GetResponse;
 import org.elasticsearch.action.get.MultiGetItemResponse;
 import org.elasticsearch.action.get.MultiGetResponse;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHitField;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.ElasticsearchException;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.ScriptedField;
 import org.springframework.data.elasticsearch.core.aggregation.AggregatedPage;
 import org.springframework.data.elasticsearch.core.aggregation.impl.AggregatedPageImpl;
+import org.springframework.data.elasticsearch.core.aggregation.impl.LazyAggregatedPageImpl;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
-
-import com.fasterxml.jackson.core.JsonEncoding;
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.util.Assert;
 
 /**
  * @author Artur Konczak
@@ -51,9 +55,37 @@ import com.fasterxml.jackson.core.JsonGenerator;
  * @author Oliver Gierke
  * @author Mark Paluch
  */
-public class DefaultResultMapper extends AbstractResultMapper {
+public class DefaultResultMapper extends AbstractResultMapper implements DisposableBean {
+
+	/**
+	 * Setters of the {@link ScriptedField}s declared by a class, resolved once per class. Empty for classes without
+	 * scripted fields.
+	 */
+	private static final ClassValue<ScriptedFieldSetter[]> SCRIPTED_FIELDS = new ClassValue<ScriptedFieldSetter[]>() {
+		@Override
+		protected ScriptedFieldSetter[] computeValue(Class<?> type) {
+			List<ScriptedFieldSetter> setters = new ArrayList<>();
+			for (java.lang.reflect.Field field : type.getDeclaredFields()) {
+				ScriptedField scriptedField = field.getAnnotation(ScriptedField.class);
+				if (scriptedField != null) {
+					String name = scriptedField.name().isEmpty() ? field.getName() : scriptedField.name();
+					setters.add(new ScriptedFieldSetter(name, field));
+				}
+			}
+			return setters.toArray(new ScriptedFieldSetter[setters.size()]);
+		}
+	};
+
+	/**
+	 * Marks responses that do not contribute to the result list, e.g. failed multi get items.
+	 */
+	private static final Object SKIPPED = new Object();
 
 	private MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext;
+	private ForkJoinPool mappingPool;
+	private boolean ownsMappingPool;
+	private int parallelMappingThreshold = Integer.MAX_VALUE;
+	private boolean lazyMapping;
 
 	public DefaultResultMapper() {
 		super(new DefaultEntityMapper());
@@ -75,82 +107,151 @@ public class DefaultResultMapper extends AbstractResultMapper {
 		this.mappingContext = mappingContext;
 	}
 
+	/**
+	 * Enables mapping the hits of large responses on a dedicated {@link ForkJoinPool}. Responses with at least
+	 * {@code threshold} hits or multi get items are split across the pool, results keep the order of the response. Pages
+	 * below the threshold are still mapped on the calling thread.
+	 * <p>
+	 * The pool is owned by this mapper and shut down once it is replaced or the mapper is {@link #destroy() destroyed}.
+	 *
+	 * @param threshold minimum number of hits to map in parallel, must be greater than zero.
+	 * @param parallelism number of threads of the mapping pool, must be greater than zero.
+	 */
+	public void setParallelMapping(int threshold, int parallelism) {
+		Assert.isTrue(threshold > 0, "Threshold must be greater than zero!");
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+		setParallelMapping(threshold, new ForkJoinPool(parallelism));
+		this.ownsMappingPool = true;
+	}
+
+	/**
+	 * Enables mapping the hits of large responses on the given {@link ForkJoinPool}, e.g.
+	 * {@link ForkJoinPool#commonPool()}. The pool is not shut down by this mapper.
+	 *
+	 * @param threshold minimum number of hits to map in parallel, must be greater than zero.
+	 * @param pool the pool to map on, must not be {@literal null}.
+	 */
+	public void setParallelMapping(int threshold, ForkJoinPool pool) {
+		Assert.isTrue(threshold > 0, "Threshold must be greater than zero!");
+		Assert.notNull(pool, "ForkJoinPool must not be null!");
+		if (ownsMappingPool) {
+			mappingPool.shutdown();
+		}
+		this.parallelMappingThreshold = threshold;
+		this.mappingPool = pool;
+		this.ownsMappingPool = false;
+	}
+
+	/**
+	 * Shuts down the mapping pool created through {@link #setParallelMapping(int, int)}. Pools handed in through
+	 * {@link #setParallelMapping(int, ForkJoinPool)} are left untouched. Subsequent responses are mapped on the calling
+	 * thread.
+	 */
+	@Override
+	public void destroy() {
+		if (ownsMappingPool) {
+			mappingPool.shutdown();
+		}
+		this.parallelMappingThreshold = Integer.MAX_VALUE;
+		this.mappingPool = null;
+		this.ownsMappingPool = false;
+	}
+
+	/**
+	 * Enables lazy mapping of search responses. The returned pages keep the raw hits and map each of them only when the
+	 * content is first accessed, so callers only reading aggregations or totals do not pay for mapping. Takes precedence
+	 * over {@link #setParallelMapping(int, int) parallel mapping}.
+	 *
+	 * @param lazyMapping whether to map hits on first access.
+	 * @see LazyAggregatedPageImpl
+	 */
+	public void setLazyMapping(boolean lazyMapping) {
+		this.lazyMapping = lazyMapping;
+	}
+
 	@Override
 	public <T> AggregatedPage<T> mapResults(SearchResponse response, Class<T> clazz, Pageable pageable) {
 		long totalHits = response.getHits().totalHits();
-		List<T> results = new ArrayList<>();
-		for (SearchHit hit : response.getHits()) {
-			if (hit != null) {
-				T result = null;
-				if (StringUtils.isNotBlank(hit.sourceAsString())) {
-					result = mapEntity(hit.sourceAsString(), clazz);
-				} else {
-					result = mapEntity(hit.getFields().values(), clazz);
+		if (lazyMapping) {
+			return new LazyAggregatedPageImpl<T>(response.getHits().getHits(), hit -> mapHit(hit, clazz), pageable,
+					totalHits, response.getAggregations(), response.getScrollId());
+		}
+		List<T> results;
+		if (isParallel(response.getHits().getHits())) {
+			SearchHit[] hits = response.getHits().getHits();
+			results = mapInParallel(hits.length, index -> hits[index] != null ? mapHit(hits[index], clazz) : SKIPPED);
+		} else {
+			results = new ArrayList<>();
+			for (SearchHit hit : response.getHits()) {
+				if (hit != null) {
+					results.add(mapHit(hit, clazz));
 				}
-				setPersistentEntityId(result, hit.getId(), clazz);
-				populateScriptFields(result, hit);
-				results.add(result);
 			}
 		}
 
         return new AggregatedPageImpl<T>(results, pageable, totalHits, response.getAggregations(), response.getScrollId());
 	}
 
+	private <T> T mapHit(SearchHit hit, Class<T> clazz) {
+		T result = null;
+		// SearchHit#hasSource() is inverted in Elasticsearch 5.x, check the source itself
+		BytesReference source = hit.getSourceRef();
+		if (source != null && source.length() > 0) {
+			result = mapEntity(source, clazz);
+		} else {
+			result = mapEntity(hit.getFields().values(), clazz);
+		}
+		setPersistentEntityId(result, hit.getId(), clazz);
+		populateScriptFields(result, hit);
+		return result;
+	}
+
+	private boolean isParallel(Object[] items) {
+		return mappingPool != null && items != null && items.length >= parallelMappingThreshold;
+	}
+
+	/**
+	 * Maps the items {@code 0..size-1} on the mapping pool and returns the results in item order, leaving out
+	 * {@link #SKIPPED} ones.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> List<T> mapInParallel(int size, IntFunction<Object> mapper) {
+		Object[] mapped = new Object[size];
+		int chunkSize = Math.max(1, size / (mappingPool.getParallelism() * 4));
+		mappingPool.invoke(new MappingTask(mapped, 0, size, chunkSize, mapper));
+		List<T> results = new ArrayList<>(size);
+		for (Object result : mapped) {
+			if (result != SKIPPED) {
+				results.add((T) result);
+			}
+		}
+		return results;
+	}
+
 	private <T> void populateScriptFields(T result, SearchHit hit) {
-		if (hit.getFields() != null && !hit.getFields().isEmpty() && result != null) {
-			for (java.lang.reflect.Field field : result.getClass().getDeclaredFields()) {
-				ScriptedField scriptedField = field.getAnnotation(ScriptedField.class);
-				if (scriptedField != null) {
-					String name = scriptedField.name().isEmpty() ? field.getName() : scriptedField.name();
-					SearchHitField searchHitField = hit.getFields().get(name);
-					if (searchHitField != null) {
-						field.setAccessible(true);
-						try {
-							field.set(result, searchHitField.getValue());
-						} catch (IllegalArgumentException e) {
-							throw new ElasticsearchException("failed to set scripted field: " + name + " with value: "
-									+ searchHitField.getValue(), e);
-						} catch (IllegalAccessException e) {
-							throw new ElasticsearchException("failed to access scripted field: " + name, e);
-						}
-					}
-				}
+		if (result == null || hit.getFields() == null || hit.getFields().isEmpty()) {
+			return;
+		}
+		ScriptedFieldSetter[] setters = SCRIPTED_FIELDS.get(result.getClass());
+		for (ScriptedFieldSetter setter : setters) {
+			SearchHitField searchHitField = hit.getFields().get(setter.name);
+			if (searchHitField != null) {
+				setter.set(result, searchHitField.getValue());
 			}
 		}
 	}
 
 	private <T> T mapEntity(Collection<SearchHitField> values, Class<T> clazz) {
-		return mapEntity(buildJSONFromFields(values), clazz);
-	}
-
-	private String buildJSONFromFields(Collection<SearchHitField> values) {
-		JsonFactory nodeFactory = new JsonFactory();
-		try {
-			ByteArrayOutputStream stream = new ByteArrayOutputStream();
-			JsonGenerator generator = nodeFactory.createGenerator(stream, JsonEncoding.UTF8);
-			generator.writeStartObject();
-			for (SearchHitField value : values) {
-				if (value.getValues().size() > 1) {
-					generator.writeArrayFieldStart(value.getName());
-					for (Object val : value.getValues()) {
-						generator.writeObject(val);
-					}
-					generator.writeEndArray();
-				} else {
-					generator.writeObjectField(value.getName(), value.getValue());
-				}
-			}
-			generator.writeEndObject();
-			generator.flush();
-			return new String(stream.toByteArray(), Charset.forName("UTF-8"));
-		} catch (IOException e) {
-			return null;
+		Map<String, Object> fields = new LinkedHashMap<>(values.size() * 2);
+		for (SearchHitField value : values) {
+			fields.put(value.getName(), value.getValues().size() > 1 ? value.getValues() : value.getValue());
 		}
+		return mapEntity(fields, clazz);
 	}
 
 	@Override
 	public <T> T mapResult(GetResponse response, Class<T> clazz) {
-		T result = mapEntity(response.getSourceAsString(), clazz);
+		T result = mapEntity(response.getSourceAsBytesRef(), clazz);
 		if (result != null) {
 			setPersistentEntityId(result, response.getId(), clazz);
 		}
@@ -159,17 +260,44 @@ public class DefaultResultMapper extends AbstractResultMapper {
 
 	@Override
 	public <T> LinkedList<T> mapResults(MultiGetResponse responses, Class<T> clazz) {
+		MultiGetItemResponse[] items = responses.getResponses();
+		if (isParallel(items)) {
+			return new LinkedList<>(this.<T> mapInParallel(items.length, index -> isFound(items[index])
+					? mapGetResponse(items[index].getResponse(), clazz) : SKIPPED));
+		}
 		LinkedList<T> list = new LinkedList<>();
-		for (MultiGetItemResponse response : responses.getResponses()) {
-			if (!response.isFailed() && response.getResponse().isExists()) {
-				T result = mapEntity(response.getResponse().getSourceAsString(), clazz);
-				setPersistentEntityId(result, response.getResponse().getId(), clazz);
-				list.add(result);
+		for (MultiGetItemResponse response : items) {
+			if (isFound(response)) {
+				list.add(mapGetResponse(response.getResponse(), clazz));
 			}
 		}
 		return list;
 	}
 
+	@Override
+	public <T> List<T> mapResultsInOrder(MultiGetResponse responses, Class<T> clazz) {
+		MultiGetItemResponse[] items = responses.getResponses();
+		if (isParallel(items)) {
+			return mapInParallel(items.length,
+					index -> isFound(items[index]) ? mapGetResponse(items[index].getResponse(), clazz) : null);
+		}
+		List<T> results = new ArrayList<>(items.length);
+		for (MultiGetItemResponse response : items) {
+			results.add(isFound(response) ? mapGetResponse(response.getResponse(), clazz) : null);
+		}
+		return results;
+	}
+
+	private static boolean isFound(MultiGetItemResponse response) {
+		return !response.isFailed() && response.getResponse().isExists();
+	}
+
+	private <T> T mapGetResponse(GetResponse response, Class<T> clazz) {
+		T result = mapEntity(response.getSourceAsBytesRef(), clazz);
+		setPersistentEntityId(result, response.getId(), clazz);
+		return result;
+	}
+
 	private <T> void setPersistentEntityId(T result, String id, Class<T> clazz) {
 
 		if (mappingContext != null && clazz.isAnnotationPresent(Document.class)) {
@@ -184,4 +312,68 @@ public class DefaultResultMapper extends AbstractResultMapper {
 
 		}
 	}
+
+	/**
+	 * Writes a single {@link ScriptedField} through a {@link MethodHandle} resolved once.
+	 */
+	private static final class ScriptedFieldSetter {
+
+		private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+		private final String name;
+		private final MethodHandle setter;
+
+		ScriptedFieldSetter(String name, java.lang.reflect.Field field) {
+			this.name = name;
+			try {
+				field.setAccessible(true);
+				this.setter = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+			} catch (IllegalAccessException e) {
+				throw new ElasticsearchException("failed to access scripted field: " + name, e);
+			}
+		}
+
+		void set(Object target, Object value) {
+			try {
+				setter.invokeExact(target, value);
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new ElasticsearchException("failed to set scripted field: " + name + " with value: " + value, e);
+			}
+		}
+	}
+
+	/**
+	 * Maps a range of items, splitting it in halves until it is no larger than the chunk size.
+	 */
+	private static final class MappingTask extends RecursiveAction {
+
+		private final Object[] results;
+		private final int from;
+		private final int to;
+		private final int chunkSize;
+		private final IntFunction<Object> mapper;
+
+		MappingTask(Object[] results, int from, int to, int chunkSize, IntFunction<Object> mapper) {
+			this.results = results;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+			this.mapper = mapper;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= chunkSize) {
+				for (int i = from; i < to; i++) {
+					results[i] = mapper.apply(i);
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new MappingTask(results, from, middle, chunkSize, mapper),
+					new MappingTask(results, middle, to, chunkSize, mapper));
+		}
+	}
 }
@@ -20,6 +20,7 @@ import org.elasticsearch.client.Client;
 import org.elasticsearch.cluster.metadata.AliasMetaData;
 import org.elasticsearch.common.Nullable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.query.*;
@@ -28,6 +29,7 @@ import org.springframework.data.util.CloseableIterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * ElasticsearchOperations
@@ -200,6 +202,28 @@ public interface ElasticsearchOperations {
 	 */
 	<T> Page<T> queryForPage(CriteriaQuery query, Class<T> clazz);
 
+	/**
+	 * Execute the query against elasticsearch paging through {@code search_after} instead of an offset. The first page
+	 * is requested with any paged {@link org.springframework.data.domain.Pageable}, further pages with
+	 * {@link CursorPage#nextPageable()}. The document id is added as last sort criterion to break ties, so a query
+	 * without sort returns documents in id order.
+	 *
+	 * @param query
+	 * @param clazz
+	 * @return
+	 */
+	<T> CursorPage<T> queryForCursorPage(SearchQuery query, Class<T> clazz);
+
+	/**
+	 * Execute the query against elasticsearch paging through {@code search_after} instead of an offset.
+	 *
+	 * @param query
+	 * @param clazz
+	 * @return
+	 * @see #queryForCursorPage(SearchQuery, Class)
+	 */
+	<T> CursorPage<T> queryForCursorPage(CriteriaQuery query, Class<T> clazz);
+
 	/**
 	 * Execute the query against elasticsearch and return result as {@link Page}
 	 *
@@ -222,6 +246,10 @@ public interface ElasticsearchOperations {
 	 * Executes the given {@link CriteriaQuery} against elasticsearch and return result as {@link CloseableIterator}.
 	 * <p>
 	 * Returns a {@link CloseableIterator} that wraps an Elasticsearch scroll context that needs to be closed in case of error.
+	 * The page size of the query is used as scroll batch size, unpaged queries are scrolled in batches of the
+	 * configured scroll batch size (500 documents by default). The scroll context is kept alive for
+	 * the {@link org.springframework.data.elasticsearch.core.query.Query#getScrollTimeInMillis() scroll time} of the query,
+	 * falling back to the configured keep alive (one minute by default).
 	 *
 	 * @param <T> element return type
 	 * @param query
@@ -235,6 +263,10 @@ public interface ElasticsearchOperations {
 	 * Executes the given {@link SearchQuery} against elasticsearch and return result as {@link CloseableIterator}.
 	 * <p>
 	 * Returns a {@link CloseableIterator} that wraps an Elasticsearch scroll context that needs to be closed in case of error.
+	 * The page size of the query is used as scroll batch size, unpaged queries are scrolled in batches of the
+	 * configured scroll batch size (500 documents by default). The scroll context is kept alive for
+	 * the {@link org.springframework.data.elasticsearch.core.query.Query#getScrollTimeInMillis() scroll time} of the query,
+	 * falling back to the configured keep alive (one minute by default).
 	 *
 	 * @param <T> element return type
 	 * @param query
@@ -258,6 +290,35 @@ public interface ElasticsearchOperations {
 	 */
 	<T> CloseableIterator<T> stream(SearchQuery query, Class<T> clazz, SearchResultMapper mapper);
 
+	/**
+	 * Executes the given {@link SearchQuery} as a sliced scroll and returns one {@link CloseableIterator} per slice.
+	 * <p>
+	 * The slices are opened concurrently and each one wraps its own Elasticsearch scroll context, so the iterators can be
+	 * consumed by different threads and each needs to be closed in case of error.
+	 *
+	 * @param <T> element return type
+	 * @param query
+	 * @param clazz
+	 * @param slices the number of slices, must be greater than zero.
+	 * @return
+	 */
+	<T> List<CloseableIterator<T>> streamSlices(SearchQuery query, Class<T> clazz, int slices);
+
+	/**
+	 * Executes the given {@link SearchQuery} as a sliced scroll and returns a parallel {@link Stream} consuming the
+	 * slices concurrently. Elements are returned in no particular order.
+	 * <p>
+	 * The returned {@link Stream} needs to be closed to release the scroll contexts of slices not consumed entirely.
+	 *
+	 * @param <T> element return type
+	 * @param query
+	 * @param clazz
+	 * @param slices the number of slices, must be greater than zero.
+	 * @return
+	 * @see #streamSlices(SearchQuery, Class, int)
+	 */
+	<T> Stream<T> parallelStream(SearchQuery query, Class<T> clazz, int slices);
+
 	/**
 	 * Execute the criteria query against elasticsearch and return result as {@link List}
 	 *
@@ -349,6 +410,27 @@ public interface ElasticsearchOperations {
 	 */
 	<T> LinkedList<T> multiGet(SearchQuery searchQuery, Class<T> clazz, MultiGetResultMapper multiGetResultMapper);
 
+	/**
+	 * Execute a multiGet against elasticsearch for the given ids and return one element per id, in the order of the ids,
+	 * with {@literal null} for ids that were not found.
+	 *
+	 * @param searchQuery
+	 * @param clazz
+	 * @return a random access list of the same size as the ids of the query
+	 */
+	<T> List<T> multiGetInOrder(SearchQuery searchQuery, Class<T> clazz);
+
+	/**
+	 * Execute a single multiGet against elasticsearch for documents of possibly different indices, types and routings,
+	 * for example of several tenants, and return one element per item, in the order of the items, with {@literal null}
+	 * for documents that were not found.
+	 *
+	 * @param items the documents to get, must not be {@literal null} or empty.
+	 * @param clazz
+	 * @return a random access list of the same size as the items
+	 */
+	<T> List<T> multiGetInOrder(List<MultiGetItem> items, Class<T> clazz);
+
 	/**
 	 * Index an object. Will do save or update
 	 *
@@ -379,6 +461,24 @@ public interface ElasticsearchOperations {
 	 */
 	void bulkUpdate(List<UpdateQuery> queries);
 
+	/**
+	 * Bulk index all objects, re-submitting only the items that failed for a retryable reason. Will do save or update
+	 *
+	 * @param queries
+	 * @param retryOptions
+	 * @throws org.springframework.data.elasticsearch.ElasticsearchException listing the permanently failed documents
+	 */
+	void bulkIndex(List<IndexQuery> queries, BulkRetryOptions retryOptions);
+
+	/**
+	 * Bulk update all objects, re-submitting only the items that failed for a retryable reason. Will do update
+	 *
+	 * @param queries
+	 * @param retryOptions
+	 * @throws org.springframework.data.elasticsearch.ElasticsearchException listing the permanently failed documents
+	 */
+	void bulkUpdate(List<UpdateQuery> queries, BulkRetryOptions retryOptions);
+
 	/**
 	 * Delete the one object with provided id
 	 *
@@ -389,14 +489,26 @@ public interface ElasticsearchOperations {
 	 */
 	String delete(String indexName, String type, String id);
 
+	/**
+	 * Delete the one object with provided id, applying the given refresh policy to the delete request
+	 *
+	 * @param indexName
+	 * @param type
+	 * @param id
+	 * @param refreshPolicy may be {@literal null} to use the cluster default.
+	 * @return documentId of the document deleted
+	 */
+	String delete(String indexName, String type, String id, RefreshPolicy refreshPolicy);
 
 	/**
 	 * Delete all records matching the criteria
 	 *
 	 * @param clazz
 	 * @param criteriaQuery
+	 * @return number of deleted documents
+	 * @see #delete(DeleteQuery, Class)
 	 */
-	<T> void delete(CriteriaQuery criteriaQuery, Class<T> clazz);
+	<T> long delete(CriteriaQuery criteriaQuery, Class<T> clazz);
 	/**
 	 * Delete the one object with provided id
 	 *
@@ -407,19 +519,26 @@ public interface ElasticsearchOperations {
 	<T> String delete(Class<T> clazz, String id);
 
 	/**
-	 * Delete all records matching the query
+	 * Delete all records matching the query. Matches are scrolled page by page and every page is deleted with its own
+	 * bulk, sent while the next page is fetched. Items that fail to delete do not stop the scroll; they are reported
+	 * together once all matches have been processed.
 	 *
 	 * @param clazz
 	 * @param query
+	 * @return number of deleted documents
+	 * @throws org.springframework.data.elasticsearch.ElasticsearchException if any document failed to delete, carrying
+	 *           the failure message per document id
 	 */
-	<T> void delete(DeleteQuery query, Class<T> clazz);
+	<T> long delete(DeleteQuery query, Class<T> clazz);
 
 	/**
 	 * Delete all records matching the query
 	 *
 	 * @param query
+	 * @return number of deleted documents
+	 * @see #delete(DeleteQuery, Class)
 	 */
-	void delete(DeleteQuery query);
+	long delete(DeleteQuery query);
 
 	/**
 	 * Deletes an index for given entity
@@ -19,13 +19,25 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.elasticsearch.ExceptionsHelper;
+import org.elasticsearch.ResourceAlreadyExistsException;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
 import org.elasticsearch.action.ListenableActionFuture;
 import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
 import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
@@ -33,17 +45,24 @@ import org.elasticsearch.action.admin.indices.create.CreateIndexRequestBuilder;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.elasticsearch.action.admin.indices.mapping.get.GetMappingsRequest;
 import org.elasticsearch.action.admin.indices.mapping.put.PutMappingRequestBuilder;
+import org.elasticsearch.action.admin.indices.mapping.put.PutMappingResponse;
 import org.elasticsearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkRequestBuilder;
 import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteResponse;
+import org.elasticsearch.action.get.GetRequestBuilder;
 import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.get.MultiGetItemResponse;
 import org.elasticsearch.action.get.MultiGetRequest;
 import org.elasticsearch.action.get.MultiGetRequestBuilder;
 import org.elasticsearch.action.get.MultiGetResponse;
 import org.elasticsearch.action.index.IndexRequestBuilder;
 import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.action.update.UpdateRequestBuilder;
 import org.elasticsearch.action.update.UpdateResponse;
 import org.elasticsearch.client.Client;
@@ -52,13 +71,18 @@ import org.elasticsearch.cluster.metadata.AliasMetaData;
 import org.elasticsearch.common.Nullable;
 import org.elasticsearch.common.collect.MapBuilder;
 import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
 import org.elasticsearch.common.xcontent.XContentBuilder;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.mapper.UidFieldMapper;
 import org.elasticsearch.index.query.MoreLikeThisQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.rest.RestStatus;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.aggregations.AbstractAggregationBuilder;
 import org.elasticsearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.elasticsearch.search.slice.SliceBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortOrder;
 import org.elasticsearch.search.suggest.SuggestBuilder;
@@ -75,17 +99,21 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.ElasticsearchException;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Mapping;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
 import org.springframework.data.elasticsearch.annotations.Setting;
 import org.springframework.data.elasticsearch.core.aggregation.AggregatedPage;
 import org.springframework.data.elasticsearch.core.aggregation.impl.AggregatedPageImpl;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.facet.FacetRequest;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContextHolder;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
 import org.springframework.data.elasticsearch.core.query.*;
 import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.util.Assert;
 import static org.apache.commons.lang.StringUtils.*;
 import static org.elasticsearch.client.Requests.*;
@@ -107,13 +135,26 @@ import static org.springframework.util.CollectionUtils.isEmpty;
  * @author Mark Janssen
  * @author Mark Paluch
  */
-public class ElasticsearchTemplate implements ElasticsearchOperations, ApplicationContextAware {
+public class ElasticsearchTemplate implements ElasticsearchOperations, AsyncElasticsearchOperations,
+		ApplicationContextAware {
 
 	private static final Logger logger = LoggerFactory.getLogger(ElasticsearchTemplate.class);
+	static final int DEFAULT_MULTI_GET_CHUNK_SIZE = 1000;
+	static final int DEFAULT_MAX_CONCURRENT_MULTI_GET_CHUNKS = 4;
+	static final int DEFAULT_SCROLL_BATCH_SIZE = 500;
+	private static final CompletableFuture<Void> PROVISIONED = CompletableFuture.completedFuture(null);
 	private Client client;
 	private ElasticsearchConverter elasticsearchConverter;
 	private ResultsMapper resultsMapper;
 	private String searchTimeout;
+	private Executor mappingExecutor = ForkJoinPool.commonPool();
+	private boolean dynamicIndexProvisioning;
+	private int multiGetChunkSize = DEFAULT_MULTI_GET_CHUNK_SIZE;
+	private int maxConcurrentMultiGetChunks = DEFAULT_MAX_CONCURRENT_MULTI_GET_CHUNKS;
+	private int streamPrefetchPages;
+	private int scrollBatchSize = DEFAULT_SCROLL_BATCH_SIZE;
+	private long scrollTimeInMillis = TimeValue.timeValueMinutes(1).millis();
+	private final ConcurrentMap<String, CompletableFuture<Void>> provisionedIndices = new ConcurrentHashMap<>();
 
 	public ElasticsearchTemplate(Client client) {
 		this(client, new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
@@ -158,6 +199,90 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		this.searchTimeout = searchTimeout;
 	}
 
+	/**
+	 * Sets the executor the asynchronous operations map their responses on. Defaults to the common fork-join pool so
+	 * that entity mapping never runs on a transport I/O thread.
+	 *
+	 * @param mappingExecutor must not be {@literal null}.
+	 */
+	public void setMappingExecutor(Executor mappingExecutor) {
+		Assert.notNull(mappingExecutor, "MappingExecutor must not be null!");
+		this.mappingExecutor = mappingExecutor;
+	}
+
+	/**
+	 * Enables creating the index and putting the mapping of
+	 * {@link org.springframework.data.elasticsearch.repository.support.DynamicIndex} entities on the first write to a tenant
+	 * index not seen before, using the entity's {@link Setting}, {@link Mapping} or field based mapping. Indices known to
+	 * exist are cached, so later writes do not pay an additional admin round trip. The asynchronous write operations
+	 * chain the admin requests instead of blocking the caller. Disabled by default.
+	 *
+	 * @param dynamicIndexProvisioning
+	 */
+	public void setDynamicIndexProvisioning(boolean dynamicIndexProvisioning) {
+		this.dynamicIndexProvisioning = dynamicIndexProvisioning;
+	}
+
+	/**
+	 * Sets the maximum number of ids sent in a single multi get request. Larger id sets are split into chunks of this
+	 * size which are sent concurrently and merged back in the order of the ids, so no single coordinating node has to
+	 * buffer the whole response. Defaults to {@value #DEFAULT_MULTI_GET_CHUNK_SIZE}.
+	 *
+	 * @param multiGetChunkSize must be greater than zero.
+	 * @see #setMaxConcurrentMultiGetChunks(int)
+	 */
+	public void setMultiGetChunkSize(int multiGetChunkSize) {
+		Assert.isTrue(multiGetChunkSize > 0, "MultiGetChunkSize must be greater than zero!");
+		this.multiGetChunkSize = multiGetChunkSize;
+	}
+
+	/**
+	 * Sets the maximum number of chunks of a single multi get that are in flight at the same time. Further chunks are
+	 * sent as earlier ones complete, so a large id set cannot flood the get thread pools of the cluster. Defaults to
+	 * {@value #DEFAULT_MAX_CONCURRENT_MULTI_GET_CHUNKS}.
+	 *
+	 * @param maxConcurrentMultiGetChunks must be greater than zero.
+	 */
+	public void setMaxConcurrentMultiGetChunks(int maxConcurrentMultiGetChunks) {
+		Assert.isTrue(maxConcurrentMultiGetChunks > 0, "MaxConcurrentMultiGetChunks must be greater than zero!");
+		this.maxConcurrentMultiGetChunks = maxConcurrentMultiGetChunks;
+	}
+
+	/**
+	 * Sets the number of scroll pages the iterators returned by the {@code stream} methods fetch ahead of the consumer.
+	 * With a value greater than zero the next page is requested in the background while the current one is consumed,
+	 * holding at most the given number of pages in memory. Defaults to {@literal 0}, fetching each page on demand.
+	 *
+	 * @param streamPrefetchPages must not be negative.
+	 */
+	public void setStreamPrefetchPages(int streamPrefetchPages) {
+		Assert.isTrue(streamPrefetchPages >= 0, "StreamPrefetchPages must not be negative!");
+		this.streamPrefetchPages = streamPrefetchPages;
+	}
+
+	/**
+	 * Sets the number of documents fetched per scroll request for unpaged queries, bounding the memory held by the
+	 * iterators returned by the {@code stream} methods. Paged queries are scrolled by their page size. Defaults to
+	 * {@value #DEFAULT_SCROLL_BATCH_SIZE}.
+	 *
+	 * @param scrollBatchSize must be greater than zero.
+	 */
+	public void setScrollBatchSize(int scrollBatchSize) {
+		Assert.isTrue(scrollBatchSize > 0, "ScrollBatchSize must be greater than zero!");
+		this.scrollBatchSize = scrollBatchSize;
+	}
+
+	/**
+	 * Sets how long the scroll context of the {@code stream} methods is kept alive between two scroll requests for
+	 * queries not defining a {@link Query#getScrollTimeInMillis() scroll time} themselves. Defaults to one minute.
+	 *
+	 * @param scrollTimeInMillis must be greater than zero.
+	 */
+	public void setScrollTimeInMillis(long scrollTimeInMillis) {
+		Assert.isTrue(scrollTimeInMillis > 0, "ScrollTimeInMillis must be greater than zero!");
+		this.scrollTimeInMillis = scrollTimeInMillis;
+	}
+
 	@Override
 	public <T> boolean createIndex(Class<T> clazz) {
 		return createIndexIfNotCreated(clazz);
@@ -171,29 +296,30 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 
 	@Override
 	public <T> boolean putMapping(Class<T> clazz) {
+		return putMapping(clazz, getMappingFor(clazz, getPersistentEntityFor(clazz).getIndexType()));
+	}
+
+	private <T> Object getMappingFor(Class<T> clazz, String type) {
 		if (clazz.isAnnotationPresent(Mapping.class)) {
 			String mappingPath = clazz.getAnnotation(Mapping.class).mappingPath();
 			if (isNotBlank(mappingPath)) {
 				String mappings = readFileFromClasspath(mappingPath);
 				if (isNotBlank(mappings)) {
-					return putMapping(clazz, mappings);
+					return mappings;
 				}
 			} else {
 				logger.info("mappingPath in @Mapping has to be defined. Building mappings using @Field");
 			}
 		}
 		ElasticsearchPersistentEntity<T> persistentEntity = getPersistentEntityFor(clazz);
-		XContentBuilder xContentBuilder = null;
 		try {
 
 			ElasticsearchPersistentProperty property = persistentEntity.getRequiredIdProperty();
 
-			xContentBuilder = buildMapping(clazz, persistentEntity.getIndexType(),
-					property.getFieldName(), persistentEntity.getParentType());
+			return buildMapping(clazz, type, property.getFieldName(), persistentEntity.getParentType());
 		} catch (Exception e) {
 			throw new ElasticsearchException("Failed to build mapping for " + clazz.getSimpleName(), e);
 		}
-		return putMapping(clazz, xContentBuilder);
 	}
 
 	@Override
@@ -206,6 +332,10 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 	public boolean putMapping(String indexName, String type, Object mapping) {
 		Assert.notNull(indexName, "No index defined for putMapping()");
 		Assert.notNull(type, "No type defined for putMapping()");
+		return preparePutMapping(indexName, type, mapping).execute().actionGet().isAcknowledged();
+	}
+
+	private PutMappingRequestBuilder preparePutMapping(String indexName, String type, Object mapping) {
 		PutMappingRequestBuilder requestBuilder = client.admin().indices().preparePutMapping(indexName).setType(type);
 		if (mapping instanceof String) {
 			requestBuilder.setSource(String.valueOf(mapping));
@@ -214,7 +344,7 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		} else if (mapping instanceof XContentBuilder) {
 			requestBuilder.setSource((XContentBuilder) mapping);
 		}
-		return requestBuilder.execute().actionGet().isAcknowledged();
+		return requestBuilder;
 	}
 
 	@Override
@@ -249,15 +379,29 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 
 	@Override
 	public <T> T queryForObject(GetQuery query, Class<T> clazz, GetResultMapper mapper) {
-		ElasticsearchPersistentEntity<T> persistentEntity = getPersistentEntityFor(clazz);
-		GetResponse response = client
-				.prepareGet(persistentEntity.getIndexName(), persistentEntity.getIndexType(), query.getId()).execute()
-				.actionGet();
+		GetResponse response = prepareGet(query, clazz).execute().actionGet();
 
 		T entity = mapper.mapResult(response, clazz);
 		return entity;
 	}
 
+	@Override
+	public <T> CompletableFuture<T> queryForObjectAsync(GetQuery query, Class<T> clazz) {
+		return toCompletableFuture(prepareGet(query, clazz).execute())
+				.thenApplyAsync(response -> resultsMapper.mapResult(response, clazz), mappingExecutor);
+	}
+
+	@Override
+	public <T> CompletableFuture<Boolean> existsAsync(GetQuery query, Class<T> clazz) {
+		return toCompletableFuture(prepareGet(query, clazz).setFetchSource(false).execute())
+				.thenApplyAsync(GetResponse::isExists, mappingExecutor);
+	}
+
+	private <T> GetRequestBuilder prepareGet(GetQuery query, Class<T> clazz) {
+		DynamicIndexAndTypeContext context = query.getIndexAndTypeContext();
+		return client.prepareGet(resolveIndexName(clazz, context), resolveType(clazz, context), query.getId());
+	}
+
 	@Override
 	public <T> T queryForObject(CriteriaQuery query, Class<T> clazz) {
 		Page<T> page = queryForPage(query, clazz);
@@ -283,6 +427,18 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		return mapper.mapResults(response, clazz, query.getPageable());
 	}
 
+	@Override
+	public <T> CompletableFuture<AggregatedPage<T>> queryForPageAsync(SearchQuery query, Class<T> clazz) {
+		return queryForPageAsync(query, clazz, resultsMapper);
+	}
+
+	@Override
+	public <T> CompletableFuture<AggregatedPage<T>> queryForPageAsync(SearchQuery query, Class<T> clazz,
+			SearchResultMapper mapper) {
+		return getSearchResponseAsync(prepareSearchRequest(prepareSearch(query, clazz), query))
+				.thenApplyAsync(response -> mapper.mapResults(response, clazz, query.getPageable()), mappingExecutor);
+	}
+
 	@Override
 	public <T> T query(SearchQuery query, ResultsExtractor<T> resultsExtractor) {
 		SearchResponse response = doSearch(prepareSearch(query), query);
@@ -316,10 +472,62 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 
 	@Override
 	public <T> Page<T> queryForPage(CriteriaQuery criteriaQuery, Class<T> clazz) {
+		SearchResponse response = getSearchResponse(
+				prepareCriteriaSearch(prepareSearch(criteriaQuery, clazz), criteriaQuery).execute());
+		return resultsMapper.mapResults(response, clazz, criteriaQuery.getPageable());
+	}
+
+	@Override
+	public <T> CursorPage<T> queryForCursorPage(SearchQuery query, Class<T> clazz) {
+		SearchRequestBuilder searchRequestBuilder = prepareSearchRequest(prepareCursorSearch(query, clazz), query);
+		return doQueryForCursorPage(searchRequestBuilder, query.getPageable(), clazz);
+	}
+
+	@Override
+	public <T> CursorPage<T> queryForCursorPage(CriteriaQuery criteriaQuery, Class<T> clazz) {
+		return doQueryForCursorPage(prepareCriteriaSearch(prepareCursorSearch(criteriaQuery, clazz), criteriaQuery),
+				criteriaQuery.getPageable(), clazz);
+	}
+
+	/**
+	 * Fetches one document more than the page size to tell whether there is a next page without counting.
+	 */
+	private <T> CursorPage<T> doQueryForCursorPage(SearchRequestBuilder searchRequestBuilder, Pageable pageable,
+			Class<T> clazz) {
+
+		Assert.isTrue(pageable.isPaged(), "Query.pageable is required for search after");
+
+		Object[] searchAfter = null;
+		if (pageable instanceof SearchAfterPageRequest) {
+			searchAfter = ((SearchAfterPageRequest) pageable).getSearchAfter();
+		} else {
+			Assert.isTrue(pageable.getPageNumber() == 0,
+					"Pages other than the first require a SearchAfterPageRequest obtained from CursorPage.nextPageable()");
+		}
+
+		int size = pageable.getPageSize();
+		searchRequestBuilder.setFrom(0).setSize(size + 1).addSort(UidFieldMapper.NAME, SortOrder.ASC);
+		if (searchAfter != null) {
+			searchRequestBuilder.searchAfter(searchAfter);
+		}
+
+		SearchResponse response = getSearchResponse(searchRequestBuilder.execute());
+		SearchHit[] hits = response.getHits().getHits();
+		List<T> content = resultsMapper.mapResults(response, clazz, Pageable.unpaged()).getContent();
+
+		boolean hasNext = hits.length > size;
+		if (hasNext) {
+			content = content.subList(0, size);
+		}
+		int last = Math.min(hits.length, size) - 1;
+		return new CursorPageImpl<>(content, pageable, hasNext, last < 0 ? null : hits[last].getSortValues());
+	}
+
+	private SearchRequestBuilder prepareCriteriaSearch(SearchRequestBuilder searchRequestBuilder,
+			CriteriaQuery criteriaQuery) {
 		QueryBuilder elasticsearchQuery = new CriteriaQueryProcessor().createQueryFromCriteria(criteriaQuery.getCriteria());
 		QueryBuilder elasticsearchFilter = new CriteriaFilterProcessor()
 				.createFilterFromCriteria(criteriaQuery.getCriteria());
-		SearchRequestBuilder searchRequestBuilder = prepareSearch(criteriaQuery, clazz);
 
 		if (elasticsearchQuery != null) {
 			searchRequestBuilder.setQuery(elasticsearchQuery);
@@ -336,9 +544,7 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		if (logger.isDebugEnabled()) {
 			logger.debug("doSearch query:\n" + searchRequestBuilder.toString());
 		}
-
-		SearchResponse response = getSearchResponse(searchRequestBuilder.execute());
-		return resultsMapper.mapResults(response, clazz, criteriaQuery.getPageable());
+		return searchRequestBuilder;
 	}
 
 	@Override
@@ -354,7 +560,7 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 
 	@Override
 	public <T> CloseableIterator<T> stream(CriteriaQuery query, Class<T> clazz) {
-		final long scrollTimeInMillis = TimeValue.timeValueMinutes(1).millis();
+		final long scrollTimeInMillis = scrollTimeInMillis(query);
 		return doStream(scrollTimeInMillis, (ScrolledPage<T>) startScroll(scrollTimeInMillis, query, clazz), clazz, resultsMapper);
 	}
 
@@ -365,11 +571,64 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 
 	@Override
 	public <T> CloseableIterator<T> stream(SearchQuery query, final Class<T> clazz, final SearchResultMapper mapper) {
-		final long scrollTimeInMillis = TimeValue.timeValueMinutes(1).millis();
+		final long scrollTimeInMillis = scrollTimeInMillis(query);
 		return doStream(scrollTimeInMillis, (ScrolledPage<T>) startScroll(scrollTimeInMillis, query, clazz, mapper), clazz, mapper);
 	}
 
+	@Override
+	public <T> List<CloseableIterator<T>> streamSlices(SearchQuery query, Class<T> clazz, int slices) {
+
+		Assert.isTrue(slices > 0, "Slices must be greater than zero!");
+
+		final long scrollTimeInMillis = scrollTimeInMillis(query);
+		List<ListenableActionFuture<SearchResponse>> responses = new ArrayList<>(slices);
+		for (int slice = 0; slice < slices; slice++) {
+			SearchRequestBuilder requestBuilder = prepareScroll(query, scrollTimeInMillis, clazz);
+			if (slices > 1) {
+				requestBuilder.slice(new SliceBuilder(slice, slices));
+			}
+			responses.add(withScrollQuery(requestBuilder, query).execute());
+		}
+
+		List<CloseableIterator<T>> iterators = new ArrayList<>(slices);
+		try {
+			for (ListenableActionFuture<SearchResponse> response : responses) {
+				ScrolledPage<T> page = (ScrolledPage<T>) resultsMapper.mapResults(getSearchResponse(response), clazz, null);
+				iterators.add(doStream(scrollTimeInMillis, page, clazz, resultsMapper));
+			}
+		} catch (RuntimeException e) {
+			for (CloseableIterator<T> iterator : iterators) {
+				iterator.close();
+			}
+			// starts at the failed slice, its search may have succeeded with mapping or opening the iterator failing
+			for (int slice = iterators.size(); slice < slices; slice++) {
+				try {
+					clearScrollQuietly(getSearchResponse(responses.get(slice)).getScrollId());
+				} catch (RuntimeException ignored) {
+					// the search of the slice failed, there is no scroll to clear
+				}
+			}
+			throw e;
+		}
+		return iterators;
+	}
+
+	@Override
+	public <T> Stream<T> parallelStream(SearchQuery query, Class<T> clazz, int slices) {
+		List<CloseableIterator<T>> iterators = streamSlices(query, clazz, slices);
+		return iterators.parallelStream().flatMap(StreamUtils::createStreamFromIterator).onClose(() -> {
+			for (CloseableIterator<T> iterator : iterators) {
+				iterator.close();
+			}
+		});
+	}
+
 	private <T> CloseableIterator<T> doStream(final long scrollTimeInMillis, final ScrolledPage<T> page, final Class<T> clazz, final SearchResultMapper mapper) {
+		if (streamPrefetchPages > 0) {
+			return new PrefetchingScrollIterator<>(page,
+					scrollId -> continueScrollAsync(scrollId, scrollTimeInMillis, clazz, mapper), this::clearScrollAsync,
+					streamPrefetchPages);
+		}
 		return new CloseableIterator<T>() {
 
 			/** As we couldn't retrieve single result with scroll, store current hits. */
@@ -384,8 +643,8 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 			@Override
 			public void close() {
 				try {
-					// Clear scroll on cluster only in case of error (cause elasticsearch auto clear scroll when it's done)
-					if (!finished && scrollId != null && currentHits != null && currentHits.hasNext()) {
+					// Clear scroll on cluster only if closed early (cause elasticsearch auto clear scroll when it's done)
+					if (!finished && scrollId != null) {
 						clearScroll(scrollId);
 					}
 				} finally {
@@ -454,6 +713,18 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		}
 	}
 
+	@Override
+	public <T> CompletableFuture<Long> countAsync(SearchQuery searchQuery, Class<T> clazz) {
+		QueryBuilder elasticsearchQuery = searchQuery.getQuery();
+		QueryBuilder elasticsearchFilter = searchQuery.getFilter();
+
+		SearchRequestBuilder countRequestBuilder = elasticsearchFilter == null
+				? prepareCountRequest(prepareCount(searchQuery, clazz), elasticsearchQuery)
+				: prepareCountRequest(prepareSearch(searchQuery, clazz), elasticsearchQuery, elasticsearchFilter);
+		return getSearchResponseAsync(countRequestBuilder)
+				.thenApplyAsync(response -> response.getHits().getTotalHits(), mappingExecutor);
+	}
+
 	@Override
 	public <T> long count(CriteriaQuery query) {
 		return count(query, null);
@@ -465,15 +736,26 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 	}
 
 	private long doCount(SearchRequestBuilder countRequestBuilder, QueryBuilder elasticsearchQuery) {
+		return prepareCountRequest(countRequestBuilder, elasticsearchQuery).execute().actionGet().getHits().getTotalHits();
+	}
+
+	private long doCount(SearchRequestBuilder searchRequestBuilder, QueryBuilder elasticsearchQuery,
+			QueryBuilder elasticsearchFilter) {
+		return prepareCountRequest(searchRequestBuilder, elasticsearchQuery, elasticsearchFilter).execute().actionGet()
+				.getHits().getTotalHits();
+	}
+
+	private SearchRequestBuilder prepareCountRequest(SearchRequestBuilder countRequestBuilder,
+			QueryBuilder elasticsearchQuery) {
 
 		if (elasticsearchQuery != null) {
 			countRequestBuilder.setQuery(elasticsearchQuery);
 		}
-		return countRequestBuilder.execute().actionGet().getHits().getTotalHits();
+		return countRequestBuilder;
 	}
 
-	private long doCount(SearchRequestBuilder searchRequestBuilder, QueryBuilder elasticsearchQuery,
-			QueryBuilder elasticsearchFilter) {
+	private SearchRequestBuilder prepareCountRequest(SearchRequestBuilder searchRequestBuilder,
+			QueryBuilder elasticsearchQuery, QueryBuilder elasticsearchFilter) {
 		if (elasticsearchQuery != null) {
 			searchRequestBuilder.setQuery(elasticsearchQuery);
 		} else {
@@ -482,15 +764,15 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		if (elasticsearchFilter != null) {
 			searchRequestBuilder.setPostFilter(elasticsearchFilter);
 		}
-		return searchRequestBuilder.execute().actionGet().getHits().getTotalHits();
+		return searchRequestBuilder;
 	}
 
 	private <T> SearchRequestBuilder prepareCount(Query query, Class<T> clazz) {
 		String indexName[] = !isEmpty(query.getIndices())
 				? query.getIndices().toArray(new String[query.getIndices().size()])
-				: retrieveIndexNameFromPersistentEntity(clazz);
+				: retrieveIndexNameFromPersistentEntity(clazz, query.getIndexAndTypeContext());
 		String types[] = !isEmpty(query.getTypes()) ? query.getTypes().toArray(new String[query.getTypes().size()])
-				: retrieveTypeFromPersistentEntity(clazz);
+				: retrieveTypeFromPersistentEntity(clazz, query.getIndexAndTypeContext());
 
 		Assert.notNull(indexName, "No index defined for Query");
 
@@ -508,23 +790,112 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		return resultsMapper.mapResults(getMultiResponse(searchQuery, clazz), clazz);
 	}
 
+	@Override
+	public <T> CompletableFuture<LinkedList<T>> multiGetAsync(SearchQuery searchQuery, Class<T> clazz) {
+		return getMultiResponseAsync(searchQuery, clazz)
+				.thenApplyAsync(response -> resultsMapper.mapResults(response, clazz), mappingExecutor);
+	}
+
 	private <T> MultiGetResponse getMultiResponse(Query searchQuery, Class<T> clazz) {
+		return getMultiResponse(prepareMultiGet(searchQuery, clazz));
+	}
+
+	private MultiGetResponse getMultiResponse(List<MultiGetRequestBuilder> requests) {
+
+		if (requests.size() == 1) {
+			return requests.get(0).execute().actionGet();
+		}
+
+		int inFlight = Math.min(maxConcurrentMultiGetChunks, requests.size());
+		List<ListenableActionFuture<MultiGetResponse>> futures = new ArrayList<>(requests.size());
+		for (int i = 0; i < inFlight; i++) {
+			futures.add(requests.get(i).execute());
+		}
+		MultiGetResponse[] responses = new MultiGetResponse[requests.size()];
+		for (int i = 0; i < responses.length; i++) {
+			responses[i] = futures.get(i).actionGet();
+			if (i + inFlight < requests.size()) {
+				futures.add(requests.get(i + inFlight).execute());
+			}
+		}
+		return mergeMultiGetResponses(responses);
+	}
+
+	private <T> CompletableFuture<MultiGetResponse> getMultiResponseAsync(Query searchQuery, Class<T> clazz) {
+		return getMultiResponseAsync(prepareMultiGet(searchQuery, clazz));
+	}
+
+	private CompletableFuture<MultiGetResponse> getMultiResponseAsync(List<MultiGetRequestBuilder> requests) {
+
+		if (requests.size() == 1) {
+			return toCompletableFuture(requests.get(0).execute());
+		}
+
+		MultiGetResponse[] responses = new MultiGetResponse[requests.size()];
+		AtomicInteger next = new AtomicInteger();
+		CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(maxConcurrentMultiGetChunks, requests.size())];
+		for (int i = 0; i < lanes.length; i++) {
+			lanes[i] = executeMultiGetChunks(requests, responses, next);
+		}
+		return CompletableFuture.allOf(lanes).thenApplyAsync(ignored -> mergeMultiGetResponses(responses),
+				mappingExecutor);
+	}
+
+	/**
+	 * Sends the chunks not yet taken by another lane one after another, keeping a single chunk of this lane in flight.
+	 */
+	private CompletableFuture<Void> executeMultiGetChunks(List<MultiGetRequestBuilder> requests,
+			MultiGetResponse[] responses, AtomicInteger next) {
+
+		int index = next.getAndIncrement();
+		if (index >= requests.size()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return toCompletableFuture(requests.get(index).execute()).thenCompose(response -> {
+			responses[index] = response;
+			return executeMultiGetChunks(requests, responses, next);
+		});
+	}
+
+	/**
+	 * Concatenates the items of the responses of consecutive chunks, preserving the order of the requested ids.
+	 */
+	private static MultiGetResponse mergeMultiGetResponses(MultiGetResponse[] responses) {
+
+		int size = 0;
+		for (MultiGetResponse response : responses) {
+			size += response.getResponses().length;
+		}
+		MultiGetItemResponse[] items = new MultiGetItemResponse[size];
+		int offset = 0;
+		for (MultiGetResponse response : responses) {
+			MultiGetItemResponse[] chunk = response.getResponses();
+			System.arraycopy(chunk, 0, items, offset, chunk.length);
+			offset += chunk.length;
+		}
+		return new MultiGetResponse(items);
+	}
+
+	/**
+	 * Creates one request per {@link #setMultiGetChunkSize(int) chunk} of ids, in the order of the ids.
+	 */
+	private <T> List<MultiGetRequestBuilder> prepareMultiGet(Query searchQuery, Class<T> clazz) {
 
 		String indexName = !isEmpty(searchQuery.getIndices()) ? searchQuery.getIndices().get(0)
-				: getPersistentEntityFor(clazz).getIndexName();
+				: resolveIndexName(clazz, searchQuery.getIndexAndTypeContext());
 		String type = !isEmpty(searchQuery.getTypes()) ? searchQuery.getTypes().get(0)
-				: getPersistentEntityFor(clazz).getIndexType();
+				: resolveType(clazz, searchQuery.getIndexAndTypeContext());
 
 		Assert.notNull(indexName, "No index defined for Query");
 		Assert.notNull(type, "No type define for Query");
 		Assert.notEmpty(searchQuery.getIds(), "No Id define for Query");
 
-		MultiGetRequestBuilder builder = client.prepareMultiGet();
-
 		if (searchQuery.getFields() != null && !searchQuery.getFields().isEmpty()) {
 			searchQuery.addSourceFilter(new FetchSourceFilter(toArray(searchQuery.getFields()), null));
 		}
 
+		List<MultiGetRequest.Item> items = new ArrayList<>(searchQuery.getIds().size());
+
 		for (String id : searchQuery.getIds()) {
 
 			MultiGetRequest.Item item = new MultiGetRequest.Item(indexName, type, id);
@@ -533,9 +904,56 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 				item = item.routing(searchQuery.getRoute());
 			}
 
-			builder.add(item);
+			items.add(item);
+		}
+		return toMultiGetRequests(items);
+	}
+
+	/**
+	 * Creates one request per {@link #setMultiGetChunkSize(int) chunk} of items, resolving the index and type of items
+	 * not specifying them from the given class and the item's {@link DynamicIndexAndTypeContext}.
+	 */
+	private <T> List<MultiGetRequestBuilder> prepareMultiGet(List<MultiGetItem> multiGetItems, Class<T> clazz) {
+
+		Assert.notEmpty(multiGetItems, "No Id define for Query");
+
+		List<MultiGetRequest.Item> items = new ArrayList<>(multiGetItems.size());
+
+		for (MultiGetItem multiGetItem : multiGetItems) {
+
+			String indexName = multiGetItem.getIndex() != null ? multiGetItem.getIndex()
+					: resolveIndexName(clazz, multiGetItem.getIndexAndTypeContext());
+			String type = multiGetItem.getType() != null ? multiGetItem.getType()
+					: resolveType(clazz, multiGetItem.getIndexAndTypeContext());
+
+			Assert.notNull(indexName, "No index defined for Query");
+			Assert.notNull(type, "No type define for Query");
+
+			MultiGetRequest.Item item = new MultiGetRequest.Item(indexName, type, multiGetItem.getId());
+
+			if (multiGetItem.getRouting() != null) {
+				item = item.routing(multiGetItem.getRouting());
+			}
+
+			items.add(item);
+		}
+		return toMultiGetRequests(items);
+	}
+
+	private List<MultiGetRequestBuilder> toMultiGetRequests(List<MultiGetRequest.Item> items) {
+
+		List<MultiGetRequestBuilder> builders = new ArrayList<>((items.size() + multiGetChunkSize - 1) / multiGetChunkSize);
+
+		for (int from = 0; from < items.size(); from += multiGetChunkSize) {
+
+			MultiGetRequestBuilder builder = client.prepareMultiGet();
+
+			for (MultiGetRequest.Item item : items.subList(from, Math.min(from + multiGetChunkSize, items.size()))) {
+				builder.add(item);
+			}
+			builders.add(builder);
 		}
-		return builder.execute().actionGet();
+		return builders;
 	}
 
 	@Override
@@ -543,9 +961,32 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		return getResultMapper.mapResults(getMultiResponse(searchQuery, clazz), clazz);
 	}
 
+	@Override
+	public <T> List<T> multiGetInOrder(SearchQuery searchQuery, Class<T> clazz) {
+		return resultsMapper.mapResultsInOrder(getMultiResponse(searchQuery, clazz), clazz);
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> multiGetInOrderAsync(SearchQuery searchQuery, Class<T> clazz) {
+		return getMultiResponseAsync(searchQuery, clazz)
+				.thenApplyAsync(response -> resultsMapper.mapResultsInOrder(response, clazz), mappingExecutor);
+	}
+
+	@Override
+	public <T> List<T> multiGetInOrder(List<MultiGetItem> items, Class<T> clazz) {
+		return resultsMapper.mapResultsInOrder(getMultiResponse(prepareMultiGet(items, clazz)), clazz);
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> multiGetInOrderAsync(List<MultiGetItem> items, Class<T> clazz) {
+		return getMultiResponseAsync(prepareMultiGet(items, clazz))
+				.thenApplyAsync(response -> resultsMapper.mapResultsInOrder(response, clazz), mappingExecutor);
+	}
+
 	@Override
 	public String index(IndexQuery query) {
-		String documentId = prepareIndex(query).execute().actionGet().getId();
+		String documentId = prepareIndex(query).setRefreshPolicy(toWriteRefreshPolicy(query.getRefreshPolicy()))
+				.execute().actionGet().getId();
 		// We should call this because we are not going through a mapper.
 		if (query.getObject() != null) {
 			setPersistentEntityId(query.getObject(), documentId);
@@ -555,14 +996,47 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 
 	@Override
 	public UpdateResponse update(UpdateQuery query) {
-		return this.prepareUpdate(query).execute().actionGet();
+		return this.prepareUpdate(query).setRefreshPolicy(toWriteRefreshPolicy(query.getRefreshPolicy())).execute()
+				.actionGet();
+	}
+
+	@Override
+	public CompletableFuture<String> indexAsync(IndexQuery query) {
+		// names are resolved on the calling thread, which carries the dynamic index context
+		String indexName = indexNameFor(query);
+		String type = typeFor(query);
+		IndexRequestBuilder indexRequestBuilder = prepareIndex(query, indexName, type)
+				.setRefreshPolicy(toWriteRefreshPolicy(query.getRefreshPolicy()));
+		return afterProvisioning(provisionDynamicIndexIfNecessary(entityClassOf(query), indexName, type),
+				() -> toCompletableFuture(indexRequestBuilder.execute())).thenApplyAsync(response -> {
+			String documentId = response.getId();
+			// We should call this because we are not going through a mapper.
+			if (query.getObject() != null) {
+				setPersistentEntityId(query.getObject(), documentId);
+			}
+			return documentId;
+		}, mappingExecutor);
+	}
+
+	@Override
+	public CompletableFuture<UpdateResponse> updateAsync(UpdateQuery query) {
+		String indexName = indexNameFor(query);
+		String type = typeFor(query);
+		UpdateRequestBuilder updateRequestBuilder = prepareUpdate(query, indexName, type)
+				.setRefreshPolicy(toWriteRefreshPolicy(query.getRefreshPolicy()));
+		return afterProvisioning(provisionDynamicIndexIfNecessary(query.getClazz(), indexName, type),
+				() -> toCompletableFuture(updateRequestBuilder.execute())).thenApplyAsync(response -> response,
+						mappingExecutor);
+	}
+
+	UpdateRequestBuilder prepareUpdate(UpdateQuery query) {
+		String indexName = indexNameFor(query);
+		String type = typeFor(query);
+		awaitProvisioning(provisionDynamicIndexIfNecessary(query.getClazz(), indexName, type));
+		return prepareUpdate(query, indexName, type);
 	}
 
-	private UpdateRequestBuilder prepareUpdate(UpdateQuery query) {
-		String indexName = isNotBlank(query.getIndexName()) ? query.getIndexName()
-				: getPersistentEntityFor(query.getClazz()).getIndexName();
-		String type = isNotBlank(query.getType()) ? query.getType()
-				: getPersistentEntityFor(query.getClazz()).getIndexType();
+	private UpdateRequestBuilder prepareUpdate(UpdateQuery query, String indexName, String type) {
 		Assert.notNull(indexName, "No index defined for Query");
 		Assert.notNull(type, "No type define for Query");
 		Assert.notNull(query.getId(), "No Id define for Query");
@@ -587,20 +1061,163 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 
 	@Override
 	public void bulkIndex(List<IndexQuery> queries) {
+		checkForBulkUpdateFailure(prepareBulkIndex(queries).execute().actionGet());
+	}
+
+	@Override
+	public CompletableFuture<Void> bulkIndexAsync(List<IndexQuery> queries) {
+		BulkRequestBuilder bulkRequest = client.prepareBulk();
+		RefreshPolicy refreshPolicy = null;
+		List<CompletableFuture<Void>> provisionings = new ArrayList<>();
+		for (IndexQuery query : queries) {
+			String indexName = indexNameFor(query);
+			String type = typeFor(query);
+			CompletableFuture<Void> provisioning = provisionDynamicIndexIfNecessary(entityClassOf(query), indexName, type);
+			if (provisioning != PROVISIONED) {
+				provisionings.add(provisioning);
+			}
+			bulkRequest.add(prepareIndex(query, indexName, type));
+			refreshPolicy = strictest(refreshPolicy, query.getRefreshPolicy());
+		}
+		bulkRequest.setRefreshPolicy(toWriteRefreshPolicy(refreshPolicy));
+		CompletableFuture<Void> provisioning = provisionings.isEmpty() ? PROVISIONED
+				: CompletableFuture.allOf(provisionings.toArray(new CompletableFuture<?>[0]));
+		return afterProvisioning(provisioning, () -> toCompletableFuture(bulkRequest.execute()))
+				.thenAcceptAsync(this::checkForBulkUpdateFailure, mappingExecutor);
+	}
+
+	private BulkRequestBuilder prepareBulkIndex(List<IndexQuery> queries) {
 		BulkRequestBuilder bulkRequest = client.prepareBulk();
+		RefreshPolicy refreshPolicy = null;
 		for (IndexQuery query : queries) {
 			bulkRequest.add(prepareIndex(query));
+			refreshPolicy = strictest(refreshPolicy, query.getRefreshPolicy());
 		}
-		checkForBulkUpdateFailure(bulkRequest.execute().actionGet());
+		return bulkRequest.setRefreshPolicy(toWriteRefreshPolicy(refreshPolicy));
 	}
 
 	@Override
 	public void bulkUpdate(List<UpdateQuery> queries) {
+		checkForBulkUpdateFailure(prepareBulkUpdate(queries).execute().actionGet());
+	}
+
+	private BulkRequestBuilder prepareBulkUpdate(List<UpdateQuery> queries) {
 		BulkRequestBuilder bulkRequest = client.prepareBulk();
+		RefreshPolicy refreshPolicy = null;
 		for (UpdateQuery query : queries) {
 			bulkRequest.add(prepareUpdate(query));
+			refreshPolicy = strictest(refreshPolicy, query.getRefreshPolicy());
+		}
+		return bulkRequest.setRefreshPolicy(toWriteRefreshPolicy(refreshPolicy));
+	}
+
+	@Override
+	public void bulkIndex(List<IndexQuery> queries, BulkRetryOptions retryOptions) {
+		executeBulkWithRetry(prepareBulkIndex(queries).request(), retryOptions);
+	}
+
+	@Override
+	public void bulkUpdate(List<UpdateQuery> queries, BulkRetryOptions retryOptions) {
+		executeBulkWithRetry(prepareBulkUpdate(queries).request(), retryOptions);
+	}
+
+	private void executeBulkWithRetry(BulkRequest bulkRequest, BulkRetryOptions retryOptions) {
+		Assert.notNull(retryOptions, "BulkRetryOptions must not be null!");
+
+		Iterator<TimeValue> backoff = retryOptions.getBackoffPolicy().iterator();
+		Map<String, String> failedDocuments = new HashMap<>();
+		BulkRequest currentRequest = bulkRequest;
+
+		while (currentRequest.numberOfActions() > 0) {
+			BulkResponse bulkResponse = client.bulk(currentRequest).actionGet();
+			if (!bulkResponse.hasFailures()) {
+				break;
+			}
+
+			BulkRequest retryRequest = new BulkRequest();
+			retryRequest.setRefreshPolicy(currentRequest.getRefreshPolicy());
+			for (BulkItemResponse item : bulkResponse.getItems()) {
+				if (!item.isFailed()) {
+					continue;
+				}
+				DocWriteRequest<?> request = currentRequest.requests().get(item.getItemId());
+				if (backoff.hasNext() && isRetryable(item.getFailure(), request, retryOptions)) {
+					retryRequest.add(request);
+				} else {
+					failedDocuments.put(item.getId(), item.getFailureMessage());
+				}
+			}
+
+			if (retryRequest.numberOfActions() > 0) {
+				TimeValue delay = backoff.next();
+				logger.debug("Retrying {} failed bulk items in {}", retryRequest.numberOfActions(), delay);
+				try {
+					Thread.sleep(delay.millis());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new ElasticsearchException("Interrupted while waiting to retry failed bulk items", e);
+				}
+			}
+			currentRequest = retryRequest;
+		}
+
+		if (!failedDocuments.isEmpty()) {
+			throw new ElasticsearchException(
+					"Bulk indexing has failures. Use ElasticsearchException.getFailedDocuments() for detailed messages ["
+							+ failedDocuments + "]",
+					failedDocuments);
+		}
+	}
+
+	private static boolean isRetryable(BulkItemResponse.Failure failure, DocWriteRequest<?> request,
+			BulkRetryOptions retryOptions) {
+		if (failure.getStatus() == RestStatus.TOO_MANY_REQUESTS
+				|| ExceptionsHelper.unwrapCause(failure.getCause()) instanceof EsRejectedExecutionException) {
+			return true;
+		}
+		// an update reads the current version again on retry, a versioned index request would conflict again
+		return retryOptions.isRetryVersionConflicts() && failure.getStatus() == RestStatus.CONFLICT
+				&& request instanceof UpdateRequest;
+	}
+
+	/**
+	 * Creates a {@link BufferedBulkWriter} accepting single actions and sending them as bulks according to the given
+	 * options. Callers must close the writer to flush the remaining actions.
+	 *
+	 * @param options flush thresholds and concurrency of the writer.
+	 * @param failureListener notified of failed actions and bulks, may be {@literal null} to log failures.
+	 * @return
+	 */
+	public BufferedBulkWriter bufferedBulkWriter(BulkOptions options, BulkFailureListener failureListener) {
+		return new BufferedBulkWriter(this, options, failureListener);
+	}
+
+	/**
+	 * Refresh policies can only be set on a bulk request as a whole, so a bulk honours the strictest policy requested by
+	 * any of its items.
+	 */
+	private static RefreshPolicy strictest(RefreshPolicy current, RefreshPolicy candidate) {
+		if (current == null || current == RefreshPolicy.NONE) {
+			return candidate != null ? candidate : current;
+		}
+		if (current == RefreshPolicy.WAIT_UNTIL && candidate == RefreshPolicy.IMMEDIATE) {
+			return candidate;
+		}
+		return current;
+	}
+
+	static WriteRequest.RefreshPolicy toWriteRefreshPolicy(RefreshPolicy refreshPolicy) {
+		if (refreshPolicy == null) {
+			return WriteRequest.RefreshPolicy.NONE;
+		}
+		switch (refreshPolicy) {
+			case IMMEDIATE:
+				return WriteRequest.RefreshPolicy.IMMEDIATE;
+			case WAIT_UNTIL:
+				return WriteRequest.RefreshPolicy.WAIT_UNTIL;
+			default:
+				return WriteRequest.RefreshPolicy.NONE;
 		}
-		checkForBulkUpdateFailure(bulkRequest.execute().actionGet());
 	}
 
 	private void checkForBulkUpdateFailure(BulkResponse bulkResponse) {
@@ -641,6 +1258,7 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 	@Override
 	public boolean deleteIndex(String indexName) {
 		Assert.notNull(indexName, "No index defined for delete operation");
+		provisionedIndices.keySet().removeIf(key -> key.startsWith(indexName + '/'));
 		if (indexExists(indexName)) {
 			return client.admin().indices().delete(new DeleteIndexRequest(indexName)).actionGet().isAcknowledged();
 		}
@@ -649,7 +1267,13 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 
 	@Override
 	public String delete(String indexName, String type, String id) {
-		return client.prepareDelete(indexName, type, id).execute().actionGet().getId();
+		return delete(indexName, type, id, null);
+	}
+
+	@Override
+	public String delete(String indexName, String type, String id, RefreshPolicy refreshPolicy) {
+		return client.prepareDelete(indexName, type, id).setRefreshPolicy(toWriteRefreshPolicy(refreshPolicy)).execute()
+				.actionGet().getId();
 	}
 
 	@Override
@@ -659,68 +1283,132 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 	}
 
 	@Override
-	public <T> void delete(DeleteQuery deleteQuery, Class<T> clazz) {
+	public CompletableFuture<String> deleteAsync(String indexName, String type, String id) {
+		return deleteAsync(indexName, type, id, null);
+	}
+
+	@Override
+	public CompletableFuture<String> deleteAsync(String indexName, String type, String id,
+			RefreshPolicy refreshPolicy) {
+		return toCompletableFuture(
+				client.prepareDelete(indexName, type, id).setRefreshPolicy(toWriteRefreshPolicy(refreshPolicy)).execute())
+						.thenApplyAsync(DeleteResponse::getId, mappingExecutor);
+	}
+
+	@Override
+	public <T> CompletableFuture<String> deleteAsync(Class<T> clazz, String id) {
+		ElasticsearchPersistentEntity<?> persistentEntity = getPersistentEntityFor(clazz);
+		return deleteAsync(persistentEntity.getIndexName(), persistentEntity.getIndexType(), id);
+	}
+
+	@Override
+	public <T> long delete(DeleteQuery deleteQuery, Class<T> clazz) {
 
 		String indexName = isNotBlank(deleteQuery.getIndex()) ? deleteQuery.getIndex()
-				: getPersistentEntityFor(clazz).getIndexName();
+				: resolveIndexName(clazz, deleteQuery.getIndexAndTypeContext());
 		String typeName = isNotBlank(deleteQuery.getType()) ? deleteQuery.getType()
-				: getPersistentEntityFor(clazz).getIndexType();
+				: resolveType(clazz, deleteQuery.getIndexAndTypeContext());
 		Integer pageSize = deleteQuery.getPageSize() != null ? deleteQuery.getPageSize() : 1000;
 		Long scrollTimeInMillis = deleteQuery.getScrollTimeInMillis() != null ? deleteQuery.getScrollTimeInMillis()
 				: 10000l;
+		// refreshing after every page would create a segment per bulk, IMMEDIATE is honoured by a single refresh at the end
+		WriteRequest.RefreshPolicy bulkRefreshPolicy = deleteQuery.getRefreshPolicy() == RefreshPolicy.WAIT_UNTIL
+				? WriteRequest.RefreshPolicy.WAIT_UNTIL : WriteRequest.RefreshPolicy.NONE;
 
 		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(deleteQuery.getQuery()).withIndices(indexName)
-				.withTypes(typeName).withPageable(PageRequest.of(0, pageSize)).build();
+				.withTypes(typeName).withPageable(PageRequest.of(0, pageSize, Sort.by("_doc"))).build();
 
 		SearchResultMapper onlyIdResultMapper = new SearchResultMapper() {
 			@Override
 			public <T> AggregatedPage<T> mapResults(SearchResponse response, Class<T> clazz, Pageable pageable) {
-				List<String> result = new ArrayList<String>();
+				List<String> result = new ArrayList<String>(response.getHits().getHits().length);
 				for (SearchHit searchHit : response.getHits().getHits()) {
-					String id = searchHit.getId();
-					result.add(id);
+					result.add(searchHit.getId());
 				}
-				if (result.size() > 0) {
-					return new AggregatedPageImpl<T>((List<T>) result, response.getScrollId());
-				}
-				return new AggregatedPageImpl<T>(Collections.EMPTY_LIST, response.getScrollId());
+				return new AggregatedPageImpl<T>((List<T>) result, Pageable.unpaged(), response.getHits().getTotalHits(),
+						response.getScrollId());
 			}
 		};
 
-		Page<String> scrolledResult = startScroll(scrollTimeInMillis, searchQuery, String.class, onlyIdResultMapper);
-		BulkRequestBuilder bulkRequestBuilder = client.prepareBulk();
-		List<String> ids = new ArrayList<String>();
+		ScrolledPage<String> scrolledResult = (ScrolledPage<String>) startScroll(scrollTimeInMillis, searchQuery,
+				String.class, onlyIdResultMapper);
+		String scrollId = scrolledResult.getScrollId();
+		long totalHits = scrolledResult.getTotalElements();
+		long deleted = 0;
+		Map<String, String> failedDocuments = new HashMap<>();
 
-		do {
-			ids.addAll(scrolledResult.getContent());
-			scrolledResult = continueScroll(((ScrolledPage<T>)scrolledResult).getScrollId(), scrollTimeInMillis, String.class, onlyIdResultMapper);
-		} while(scrolledResult.getContent().size() != 0);
+		try {
+			while (!scrolledResult.getContent().isEmpty()) {
+				BulkRequestBuilder bulkRequestBuilder = client.prepareBulk().setRefreshPolicy(bulkRefreshPolicy);
+				for (String id : scrolledResult.getContent()) {
+					bulkRequestBuilder.add(client.prepareDelete(indexName, typeName, id));
+				}
+				// send the deletes of this page while the next page is fetched
+				ListenableActionFuture<BulkResponse> bulkResponse = bulkRequestBuilder.execute();
+				scrolledResult = (ScrolledPage<String>) continueScroll(scrollId, scrollTimeInMillis, String.class,
+						onlyIdResultMapper);
+				scrollId = scrolledResult.getScrollId();
+				deleted += countSuccessfulItems(bulkResponse.actionGet(), failedDocuments);
+				logger.debug("Deleted {} of {} documents from [{}/{}]", deleted, totalHits, indexName, typeName);
+			}
+		} finally {
+			clearScrollQuietly(scrollId);
+		}
 
-		for (String id : ids) {
-			bulkRequestBuilder.add(client.prepareDelete(indexName, typeName, id));
+		if (deleted > 0 && deleteQuery.getRefreshPolicy() == RefreshPolicy.IMMEDIATE) {
+			refresh(indexName);
 		}
 
-		if (bulkRequestBuilder.numberOfActions() > 0) {
-			bulkRequestBuilder.execute().actionGet();
+		if (!failedDocuments.isEmpty()) {
+			throw new ElasticsearchException("Bulk delete has failures, " + deleted
+					+ " documents were deleted. Use ElasticsearchException.getFailedDocuments() for detailed messages ["
+					+ failedDocuments + "]", failedDocuments);
 		}
+		return deleted;
+	}
 
-		clearScroll(((ScrolledPage<T>) scrolledResult).getScrollId());
+	private static long countSuccessfulItems(BulkResponse bulkResponse, Map<String, String> failedDocuments) {
+		long successful = 0;
+		for (BulkItemResponse item : bulkResponse.getItems()) {
+			if (item.isFailed()) {
+				failedDocuments.put(item.getId(), item.getFailureMessage());
+			} else {
+				successful++;
+			}
+		}
+		return successful;
+	}
+
+	private void clearScrollQuietly(String scrollId) {
+		if (scrollId == null) {
+			return;
+		}
+		try {
+			clearScroll(scrollId);
+		} catch (Exception e) {
+			logger.warn("Failed to clear scroll [" + scrollId + "]", e);
+		}
 	}
 
 	@Override
-	public void delete(DeleteQuery deleteQuery) {
+	public long delete(DeleteQuery deleteQuery) {
 		Assert.notNull(deleteQuery.getIndex(), "No index defined for Query");
 		Assert.notNull(deleteQuery.getType(), "No type define for Query");
-		delete(deleteQuery, null);
+		return delete(deleteQuery, null);
 	}
 
 	@Override
-	public <T> void delete(CriteriaQuery criteriaQuery, Class<T> clazz) {
+	public <T> long delete(CriteriaQuery criteriaQuery, Class<T> clazz) {
 		QueryBuilder elasticsearchQuery = new CriteriaQueryProcessor().createQueryFromCriteria(criteriaQuery.getCriteria());
 		Assert.notNull(elasticsearchQuery, "Query can not be null.");
 		DeleteQuery deleteQuery = new DeleteQuery();
 		deleteQuery.setQuery(elasticsearchQuery);
-		delete(deleteQuery, clazz);
+		deleteQuery.setIndexAndTypeContext(criteriaQuery.getIndexAndTypeContext());
+		return delete(deleteQuery, clazz);
+	}
+
+	private long scrollTimeInMillis(Query query) {
+		return query.getScrollTimeInMillis() != null ? query.getScrollTimeInMillis() : scrollTimeInMillis;
 	}
 
 	private <T> SearchRequestBuilder prepareScroll(Query query, long scrollTimeInMillis, Class<T> clazz) {
@@ -732,13 +1420,18 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		SearchRequestBuilder requestBuilder = client.prepareSearch(toArray(query.getIndices()))
 				.setTypes(toArray(query.getTypes())).setScroll(TimeValue.timeValueMillis(scrollTimeInMillis)).setFrom(0);
 
-		if(query.getPageable().isPaged()){
-			requestBuilder.setSize(query.getPageable().getPageSize());
-		}
+		requestBuilder.setSize(query.getPageable().isPaged() ? query.getPageable().getPageSize() : scrollBatchSize);
 
 		if (!isEmpty(query.getFields())) {
 			requestBuilder.setFetchSource(toArray(query.getFields()), null);
 		}
+
+		if (query.getSort() != null) {
+			for (Sort.Order order : query.getSort()) {
+				requestBuilder.addSort(order.getProperty(),
+						order.getDirection() == Sort.Direction.DESC ? SortOrder.DESC : SortOrder.ASC);
+			}
+		}
 		return requestBuilder;
 	}
 
@@ -765,6 +1458,10 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 	}
 
 	private SearchResponse doScroll(SearchRequestBuilder requestBuilder, SearchQuery searchQuery) {
+		return getSearchResponse(withScrollQuery(requestBuilder, searchQuery).execute());
+	}
+
+	private SearchRequestBuilder withScrollQuery(SearchRequestBuilder requestBuilder, SearchQuery searchQuery) {
 		Assert.notNull(searchQuery.getIndices(), "No index defined for Query");
 		Assert.notNull(searchQuery.getTypes(), "No type define for Query");
 		Assert.notNull(searchQuery.getPageable(), "Query.pageable is required for scan & scroll");
@@ -773,7 +1470,7 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 			requestBuilder.setPostFilter(searchQuery.getFilter());
 		}
 
-		return getSearchResponse(requestBuilder.setQuery(searchQuery.getQuery()).execute());
+		return requestBuilder.setQuery(searchQuery.getQuery());
 	}
 
 	public <T> Page<T> startScroll(long scrollTimeInMillis, SearchQuery searchQuery, Class<T> clazz) {
@@ -808,11 +1505,30 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		return mapper.mapResults(response, clazz, Pageable.unpaged());
 	}
 
+	private <T> CompletableFuture<ScrolledPage<T>> continueScrollAsync(String scrollId, long scrollTimeInMillis,
+			Class<T> clazz, SearchResultMapper mapper) {
+		return toCompletableFuture(client.prepareSearchScroll(scrollId)
+				.setScroll(TimeValue.timeValueMillis(scrollTimeInMillis)).execute())
+				.thenApplyAsync(response -> (ScrolledPage<T>) mapper.mapResults(response, clazz, Pageable.unpaged()),
+						mappingExecutor);
+	}
+
 	@Override
 	public void clearScroll(String scrollId) {
 		client.prepareClearScroll().addScrollId(scrollId).execute().actionGet();
 	}
 
+	/**
+	 * Clears the scroll without waiting for the response, which makes it safe to call from transport threads.
+	 */
+	private void clearScrollAsync(String scrollId) {
+		toCompletableFuture(client.prepareClearScroll().addScrollId(scrollId).execute()).whenComplete((response, e) -> {
+			if (e != null) {
+				logger.warn("Failed to clear scroll [" + scrollId + "]", e);
+			}
+		});
+	}
+
 	@Override
 	public <T> Page<T> moreLikeThis(MoreLikeThisQuery query, Class<T> clazz) {
 
@@ -856,6 +1572,10 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 	}
 
 	private SearchResponse doSearch(SearchRequestBuilder searchRequest, SearchQuery searchQuery) {
+		return getSearchResponse(prepareSearchRequest(searchRequest, searchQuery).execute());
+	}
+
+	private SearchRequestBuilder prepareSearchRequest(SearchRequestBuilder searchRequest, SearchQuery searchQuery) {
 		if (searchQuery.getFilter() != null) {
 			searchRequest.setPostFilter(searchQuery.getFilter());
 		}
@@ -897,34 +1617,183 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 				searchRequest.addAggregation(aggregatedFacet.getFacet());
 			}
 		}
-		return getSearchResponse(searchRequest.setQuery(searchQuery.getQuery()).execute());
+		return searchRequest.setQuery(searchQuery.getQuery());
 	}
 
 	private SearchResponse getSearchResponse(ListenableActionFuture<SearchResponse> response) {
 		return searchTimeout == null ? response.actionGet() : response.actionGet(searchTimeout);
 	}
 
+	/**
+	 * Asynchronous counterpart of {@link #getSearchResponse(ListenableActionFuture)}. Instead of bounding the wait on
+	 * the calling thread the configured search timeout is sent along with the request.
+	 */
+	private CompletableFuture<SearchResponse> getSearchResponseAsync(SearchRequestBuilder request) {
+		if (searchTimeout != null) {
+			request.setTimeout(TimeValue.parseTimeValue(searchTimeout, "searchTimeout"));
+		}
+		return toCompletableFuture(request.execute());
+	}
+
+	/**
+	 * Bridges the transport client's {@link ListenableActionFuture} to a {@link CompletableFuture}. The returned future
+	 * completes on the transport thread, so any further mapping has to be moved to the {@link #mappingExecutor}.
+	 */
+	private static <R> CompletableFuture<R> toCompletableFuture(ListenableActionFuture<R> actionFuture) {
+		CompletableFuture<R> future = new CompletableFuture<>();
+		actionFuture.addListener(new ActionListener<R>() {
+
+			@Override
+			public void onResponse(R response) {
+				future.complete(response);
+			}
+
+			@Override
+			public void onFailure(Exception e) {
+				future.completeExceptionally(e);
+			}
+		});
+		return future;
+	}
+
 	private <T> boolean createIndexIfNotCreated(Class<T> clazz) {
 		return indexExists(getPersistentEntityFor(clazz).getIndexName()) || createIndexWithSettings(clazz);
 	}
 
 	private <T> boolean createIndexWithSettings(Class<T> clazz) {
+		return createIndex(getPersistentEntityFor(clazz).getIndexName(), getSettingsFor(clazz));
+	}
+
+	private <T> Object getSettingsFor(Class<T> clazz) {
 		if (clazz.isAnnotationPresent(Setting.class)) {
 			String settingPath = clazz.getAnnotation(Setting.class).settingPath();
 			if (isNotBlank(settingPath)) {
 				String settings = readFileFromClasspath(settingPath);
 				if (isNotBlank(settings)) {
-					return createIndex(getPersistentEntityFor(clazz).getIndexName(), settings);
+					return settings;
 				}
 			} else {
 				logger.info("settingPath in @Setting has to be defined. Using default instead.");
 			}
 		}
-		return createIndex(getPersistentEntityFor(clazz).getIndexName(), getDefaultSettings(getPersistentEntityFor(clazz)));
+		return getDefaultSettings(getPersistentEntityFor(clazz));
+	}
+
+	/**
+	 * Creates the given index and puts the mapping of the given type unless they were provisioned before. The admin
+	 * requests are sent asynchronously and outside of any lock; concurrent writers to the same unseen index share a
+	 * single provisioning. A failed provisioning is retried on the next write.
+	 *
+	 * @return a future completing once the index is ready to be written to.
+	 */
+	private CompletableFuture<Void> provisionDynamicIndexIfNecessary(Class<?> clazz, String indexName, String type) {
+		if (!dynamicIndexProvisioning || clazz == null || !DynamicIndexAndTypeContextHolder.isDynamicIndexAnnotated(clazz)) {
+			return PROVISIONED;
+		}
+		String key = indexName + '/' + type;
+		CompletableFuture<Void> provisioning = provisionedIndices.get(key);
+		if (provisioning != null) {
+			return provisioning;
+		}
+		CompletableFuture<Void> created = new CompletableFuture<>();
+		provisioning = provisionedIndices.putIfAbsent(key, created);
+		if (provisioning != null) {
+			return provisioning;
+		}
+		provisionDynamicIndex(clazz, indexName, type).whenComplete((response, e) -> {
+			if (e != null) {
+				provisionedIndices.remove(key, created);
+				created.completeExceptionally(e);
+			} else {
+				created.complete(null);
+			}
+		});
+		return created;
+	}
+
+	private static Class<?> entityClassOf(IndexQuery query) {
+		return query.getObject() == null ? null : query.getObject().getClass();
+	}
+
+	private String indexNameFor(IndexQuery query) {
+		return isBlank(query.getIndexName())
+				? resolveIndexName(query.getObject().getClass(), query.getIndexAndTypeContext()) : query.getIndexName();
+	}
+
+	private String typeFor(IndexQuery query) {
+		return isBlank(query.getType()) ? resolveType(query.getObject().getClass(), query.getIndexAndTypeContext())
+				: query.getType();
+	}
+
+	private String indexNameFor(UpdateQuery query) {
+		return isNotBlank(query.getIndexName()) ? query.getIndexName()
+				: resolveIndexName(query.getClazz(), query.getIndexAndTypeContext());
+	}
+
+	private String typeFor(UpdateQuery query) {
+		return isNotBlank(query.getType()) ? query.getType()
+				: resolveType(query.getClazz(), query.getIndexAndTypeContext());
+	}
+
+	private CompletableFuture<PutMappingResponse> provisionDynamicIndex(Class<?> clazz, String indexName, String type) {
+		logger.info("Provisioning index [{}] with mapping for type [{}]", indexName, type);
+		CreateIndexRequestBuilder createIndex;
+		PutMappingRequestBuilder putMapping;
+		try {
+			createIndex = prepareCreateIndex(indexName, getSettingsFor(clazz));
+			putMapping = preparePutMapping(indexName, type, getMappingFor(clazz, type));
+		} catch (RuntimeException e) {
+			CompletableFuture<PutMappingResponse> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+		return toCompletableFuture(client.admin().indices().prepareExists(indexName).execute())
+				.thenCompose(response -> response.isExists() ? PROVISIONED : createIndexIfAbsent(createIndex))
+				.thenCompose(ignored -> toCompletableFuture(putMapping.execute()));
+	}
+
+	private CompletableFuture<Void> createIndexIfAbsent(CreateIndexRequestBuilder createIndex) {
+		return toCompletableFuture(createIndex.execute()).handle((response, e) -> {
+			if (e != null && !(ExceptionsHelper.unwrapCause(e) instanceof ResourceAlreadyExistsException)) {
+				throw e instanceof RuntimeException ? (RuntimeException) e : new CompletionException(e);
+			}
+			// created concurrently by another client otherwise
+			return null;
+		});
+	}
+
+	/**
+	 * Runs the given action once the provisioning completed, directly on the calling thread if it already has.
+	 */
+	private <R> CompletableFuture<R> afterProvisioning(CompletableFuture<Void> provisioning,
+			Supplier<CompletableFuture<R>> action) {
+		if (provisioning.isDone() && !provisioning.isCompletedExceptionally()) {
+			return action.get();
+		}
+		return provisioning.thenComposeAsync(ignored -> action.get(), mappingExecutor);
+	}
+
+	/**
+	 * Blocks until the given provisioning completed, rethrowing its failure.
+	 */
+	private static void awaitProvisioning(CompletableFuture<Void> provisioning) {
+		try {
+			provisioning.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new ElasticsearchException("failed to provision index", cause);
+		}
 	}
 
 	@Override
 	public boolean createIndex(String indexName, Object settings) {
+		return prepareCreateIndex(indexName, settings).execute().actionGet().isAcknowledged();
+	}
+
+	private CreateIndexRequestBuilder prepareCreateIndex(String indexName, Object settings) {
 		CreateIndexRequestBuilder createIndexRequestBuilder = client.admin().indices().prepareCreate(indexName);
 		if (settings instanceof String) {
 			createIndexRequestBuilder.setSettings(String.valueOf(settings));
@@ -933,7 +1802,7 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		} else if (settings instanceof XContentBuilder) {
 			createIndexRequestBuilder.setSettings((XContentBuilder) settings);
 		}
-		return createIndexRequestBuilder.execute().actionGet().isAcknowledged();
+		return createIndexRequestBuilder;
 	}
 
 	@Override
@@ -970,6 +1839,22 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 	}
 
 	private SearchRequestBuilder prepareSearch(Query query) {
+		// from/size paging would silently serve page * size instead of the page after the cursor
+		Assert.isTrue(!(query.getPageable() instanceof SearchAfterPageRequest),
+				"SearchAfterPageRequest is only supported by queryForCursorPage, use a PageRequest for other queries");
+		return doPrepareSearch(query);
+	}
+
+	/**
+	 * Prepares the search of a {@link #queryForCursorPage(SearchQuery, Class) cursor page}, whose pageable may be a
+	 * {@link SearchAfterPageRequest}.
+	 */
+	private <T> SearchRequestBuilder prepareCursorSearch(Query query, Class<T> clazz) {
+		setPersistentEntityIndexAndType(query, clazz);
+		return doPrepareSearch(query);
+	}
+
+	private SearchRequestBuilder doPrepareSearch(Query query) {
 		Assert.notNull(query.getIndices(), "No index defined for Query");
 		Assert.notNull(query.getTypes(), "No type defined for Query");
 
@@ -1005,13 +1890,15 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 		return searchRequestBuilder;
 	}
 
-	private IndexRequestBuilder prepareIndex(IndexQuery query) {
-		try {
-			String indexName = isBlank(query.getIndexName())
-					? retrieveIndexNameFromPersistentEntity(query.getObject().getClass())[0] : query.getIndexName();
-			String type = isBlank(query.getType()) ? retrieveTypeFromPersistentEntity(query.getObject().getClass())[0]
-					: query.getType();
+	IndexRequestBuilder prepareIndex(IndexQuery query) {
+		String indexName = indexNameFor(query);
+		String type = typeFor(query);
+		awaitProvisioning(provisionDynamicIndexIfNecessary(entityClassOf(query), indexName, type));
+		return prepareIndex(query, indexName, type);
+	}
 
+	private IndexRequestBuilder prepareIndex(IndexQuery query, String indexName, String type) {
+		try {
 			IndexRequestBuilder indexRequestBuilder = null;
 
 			if (query.getObject() != null) {
@@ -1022,7 +1909,8 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 				} else {
 					indexRequestBuilder = client.prepareIndex(indexName, type);
 				}
-				indexRequestBuilder.setSource(resultsMapper.getEntityMapper().mapToString(query.getObject()));
+				indexRequestBuilder.setSource(resultsMapper.getEntityMapper().mapToBytes(query.getObject()),
+						XContentType.JSON);
 			} else if (query.getSource() != null) {
 				indexRequestBuilder = client.prepareIndex(indexName, type, query.getId()).setSource(query.getSource());
 			} else {
@@ -1122,23 +2010,41 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 
 	private void setPersistentEntityIndexAndType(Query query, Class clazz) {
 		if (query.getIndices().isEmpty()) {
-			query.addIndices(retrieveIndexNameFromPersistentEntity(clazz));
+			query.addIndices(retrieveIndexNameFromPersistentEntity(clazz, query.getIndexAndTypeContext()));
 		}
 		if (query.getTypes().isEmpty()) {
-			query.addTypes(retrieveTypeFromPersistentEntity(clazz));
+			query.addTypes(retrieveTypeFromPersistentEntity(clazz, query.getIndexAndTypeContext()));
 		}
 	}
 
-	private String[] retrieveIndexNameFromPersistentEntity(Class clazz) {
+	/**
+	 * Resolves the index name of the given entity class, applying the given context instead of the one bound to the
+	 * current thread when not {@literal null}.
+	 */
+	private String resolveIndexName(Class<?> clazz, DynamicIndexAndTypeContext context) {
+		return DynamicIndexAndTypeContextHolder.getInstance().withContext(context,
+				() -> getPersistentEntityFor(clazz).getIndexName());
+	}
+
+	/**
+	 * Resolves the type of the given entity class, applying the given context instead of the one bound to the current
+	 * thread when not {@literal null}.
+	 */
+	private String resolveType(Class<?> clazz, DynamicIndexAndTypeContext context) {
+		return DynamicIndexAndTypeContextHolder.getInstance().withContext(context,
+				() -> getPersistentEntityFor(clazz).getIndexType());
+	}
+
+	private String[] retrieveIndexNameFromPersistentEntity(Class<?> clazz, DynamicIndexAndTypeContext context) {
 		if (clazz != null) {
-			return new String[] { getPersistentEntityFor(clazz).getIndexName() };
+			return new String[] { resolveIndexName(clazz, context) };
 		}
 		return null;
 	}
 
-	private String[] retrieveTypeFromPersistentEntity(Class clazz) {
+	private String[] retrieveTypeFromPersistentEntity(Class<?> clazz, DynamicIndexAndTypeContext context) {
 		if (clazz != null) {
-			return new String[] { getPersistentEntityFor(clazz).getIndexType() };
+			return new String[] { resolveType(clazz, context) };
 		}
 		return null;
 	}
@@ -1208,6 +2114,6 @@ public class ElasticsearchTemplate implements ElasticsearchOperations, Applicati
 	}
 
 	public SearchResponse suggest(SuggestBuilder suggestion, Class clazz) {
-		return suggest(suggestion, retrieveIndexNameFromPersistentEntity(clazz));
+		return suggest(suggestion, retrieveIndexNameFromPersistentEntity(clazz, null));
 	}
 }
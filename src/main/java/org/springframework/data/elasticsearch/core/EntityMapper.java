@@ -16,6 +16,12 @@
 package org.springframework.data.elasticsearch.core;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
 
 /**
  * DocumentMapper interface, it will allow to customize how we mapping object to json
@@ -29,4 +35,59 @@ public interface EntityMapper {
 	public String mapToString(Object object) throws IOException;
 
 	public <T> T mapToObject(String source, Class<T> clazz) throws IOException;
+
+	/**
+	 * Maps the given object to UTF-8 encoded JSON. The default implementation encodes the result of
+	 * {@link #mapToString(Object)}, implementations should override it to serialize to bytes directly.
+	 *
+	 * @param object the object to map.
+	 * @return the JSON bytes.
+	 * @throws IOException
+	 */
+	default BytesReference mapToBytes(Object object) throws IOException {
+		String source = mapToString(object);
+		return source != null ? new BytesArray(source.getBytes(StandardCharsets.UTF_8)) : null;
+	}
+
+	/**
+	 * Maps the UTF-8 encoded JSON held by the given range of bytes to an object. The default implementation decodes the
+	 * bytes into a {@link String} first, implementations should override it to parse the bytes directly.
+	 *
+	 * @param source the buffer holding the JSON.
+	 * @param offset the offset of the JSON in the buffer.
+	 * @param length the number of bytes to read.
+	 * @param clazz the target type.
+	 * @return the mapped object.
+	 * @throws IOException
+	 */
+	default <T> T mapToObject(byte[] source, int offset, int length, Class<T> clazz) throws IOException {
+		return mapToObject(new String(source, offset, length, StandardCharsets.UTF_8), clazz);
+	}
+
+	/**
+	 * Maps the UTF-8 encoded JSON held by the given {@link BytesReference}, e.g. the source of a search hit, to an object
+	 * without copying it if it is backed by a single array.
+	 *
+	 * @param source the JSON bytes.
+	 * @param clazz the target type.
+	 * @return the mapped object.
+	 * @throws IOException
+	 */
+	default <T> T mapToObject(BytesReference source, Class<T> clazz) throws IOException {
+		BytesRef bytes = source.toBytesRef();
+		return mapToObject(bytes.bytes, bytes.offset, bytes.length, clazz);
+	}
+
+	/**
+	 * Maps already parsed values, e.g. the stored fields of a search hit, to an object. The default implementation
+	 * serializes the values to JSON first, implementations should override it to bind the values directly.
+	 *
+	 * @param values the values keyed by property name.
+	 * @param clazz the target type.
+	 * @return the mapped object.
+	 * @throws IOException
+	 */
+	default <T> T mapToObject(Map<String, ?> values, Class<T> clazz) throws IOException {
+		return mapToObject(mapToString(values), clazz);
+	}
 }
@@ -16,8 +16,11 @@
 
 package org.springframework.data.elasticsearch.core;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
+import org.elasticsearch.action.get.MultiGetItemResponse;
 import org.elasticsearch.action.get.MultiGetResponse;
 
 /**
@@ -26,4 +29,23 @@ import org.elasticsearch.action.get.MultiGetResponse;
 public interface MultiGetResultMapper {
 
 	<T> LinkedList<T> mapResults(MultiGetResponse responses, Class<T> clazz);
+
+	/**
+	 * Maps the responses to a random access list holding one element per requested document, in request order, with
+	 * {@literal null} for documents that were not found or failed. The default implementation maps each item through
+	 * {@link #mapResults(MultiGetResponse, Class)}, implementations should override it.
+	 *
+	 * @param responses the responses to map.
+	 * @param clazz the entity type.
+	 * @return a list of the same size as the responses.
+	 */
+	default <T> List<T> mapResultsInOrder(MultiGetResponse responses, Class<T> clazz) {
+		MultiGetItemResponse[] items = responses.getResponses();
+		List<T> results = new ArrayList<>(items.length);
+		for (MultiGetItemResponse item : items) {
+			LinkedList<T> mapped = mapResults(new MultiGetResponse(new MultiGetItemResponse[] { item }), clazz);
+			results.add(mapped.isEmpty() ? null : mapped.getFirst());
+		}
+		return results;
+	}
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.data.elasticsearch.ElasticsearchException;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CloseableIterator} over a scroll requesting the next page in the background while the current one is
+ * consumed. At most {@code bufferedPages} mapped pages are held ahead of the consumer; once the buffer is full no
+ * further page is requested until the consumer takes one, so a slow consumer never lets the buffer grow. Scroll
+ * requests are issued strictly one after another, each with the scroll id returned by the previous one.
+ * <p>
+ * {@link #close() Closing} the iterator before the scroll is exhausted clears the scroll, or, if a request is in
+ * flight, lets that request clear it once it completes. Instances are meant to be consumed by a single thread.
+ *
+ * @see ElasticsearchTemplate#setStreamPrefetchPages(int)
+ */
+class PrefetchingScrollIterator<T> implements CloseableIterator<T> {
+
+	private final Function<String, CompletableFuture<ScrolledPage<T>>> nextPage;
+	private final Consumer<String> clearScroll;
+	private final int bufferedPages;
+	private final ArrayDeque<Iterator<T>> pages;
+	private final Object lock = new Object();
+
+	private Iterator<T> currentHits;
+	private String scrollId;
+	private boolean fetching;
+	private boolean exhausted;
+	private boolean closed;
+	private Throwable failure;
+
+	/**
+	 * @param firstPage the page returned by starting the scroll, must not be {@literal null}.
+	 * @param nextPage requests the page following the given scroll id, must not be {@literal null}.
+	 * @param clearScroll clears the scroll with the given id, must not be {@literal null}.
+	 * @param bufferedPages the maximum number of pages fetched ahead of the consumer, must be greater than zero.
+	 */
+	PrefetchingScrollIterator(ScrolledPage<T> firstPage, Function<String, CompletableFuture<ScrolledPage<T>>> nextPage,
+			Consumer<String> clearScroll, int bufferedPages) {
+
+		Assert.notNull(firstPage, "FirstPage must not be null!");
+		Assert.notNull(nextPage, "NextPage must not be null!");
+		Assert.notNull(clearScroll, "ClearScroll must not be null!");
+		Assert.isTrue(bufferedPages > 0, "BufferedPages must be greater than zero!");
+
+		this.nextPage = nextPage;
+		this.clearScroll = clearScroll;
+		this.bufferedPages = bufferedPages;
+		this.pages = new ArrayDeque<>(bufferedPages);
+		this.currentHits = firstPage.iterator();
+		this.scrollId = firstPage.getScrollId();
+		this.exhausted = !currentHits.hasNext();
+
+		synchronized (lock) {
+			requestNextPage();
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		if (currentHits.hasNext()) {
+			return true;
+		}
+
+		synchronized (lock) {
+			while (pages.isEmpty() && failure == null && !exhausted && !closed) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new ElasticsearchException("Interrupted while waiting for the next scroll page", e);
+				}
+			}
+			if (!pages.isEmpty()) {
+				currentHits = pages.poll();
+				requestNextPage();
+				return true;
+			}
+			if (failure != null) {
+				throw failure instanceof RuntimeException ? (RuntimeException) failure
+						: new ElasticsearchException("Failed to fetch the next scroll page", failure);
+			}
+			return false;
+		}
+	}
+
+	@Override
+	public T next() {
+		if (hasNext()) {
+			return currentHits.next();
+		}
+		throw new NoSuchElementException();
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("remove");
+	}
+
+	@Override
+	public void close() {
+
+		String scrollToClear;
+		synchronized (lock) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			pages.clear();
+			lock.notifyAll();
+			// an in-flight request clears the scroll once it completes
+			scrollToClear = fetching || exhausted ? null : scrollId;
+		}
+		if (scrollToClear != null) {
+			clearScroll.accept(scrollToClear);
+		}
+	}
+
+	/**
+	 * Requests the next page unless a request is already in flight, the buffer is full or the scroll is done. Must be
+	 * called holding the lock.
+	 */
+	private void requestNextPage() {
+
+		if (fetching || exhausted || closed || failure != null || pages.size() >= bufferedPages) {
+			return;
+		}
+
+		fetching = true;
+		CompletableFuture<ScrolledPage<T>> future;
+		try {
+			future = nextPage.apply(scrollId);
+		} catch (RuntimeException e) {
+			future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+		}
+		future.whenComplete(this::onPage);
+	}
+
+	private void onPage(ScrolledPage<T> page, Throwable error) {
+
+		String scrollToClear = null;
+		synchronized (lock) {
+			fetching = false;
+			if (error != null) {
+				failure = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+				scrollToClear = scrollId;
+			} else {
+				if (page.getScrollId() != null) {
+					scrollId = page.getScrollId();
+				}
+				Iterator<T> hits = page.iterator();
+				if (!hits.hasNext()) {
+					exhausted = true;
+				} else if (closed) {
+					scrollToClear = scrollId;
+				} else {
+					pages.add(hits);
+					requestNextPage();
+				}
+			}
+			lock.notifyAll();
+		}
+		if (scrollToClear != null) {
+			clearScroll.accept(scrollToClear);
+		}
+	}
+}
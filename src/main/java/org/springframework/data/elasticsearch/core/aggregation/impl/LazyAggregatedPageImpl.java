@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.aggregation.impl;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AggregatedPageImpl} keeping the raw {@link SearchHit}s of a response and mapping each of them only when it is
+ * first accessed through {@link #getContent()} or iteration. Pages that are only inspected for their aggregations or
+ * totals never map a single hit. Mapped entities are cached, so every hit is mapped at most once.
+ *
+ * @param <T> the entity type.
+ */
+public class LazyAggregatedPageImpl<T> extends AggregatedPageImpl<T> {
+
+	private static final Object NULL = new Object();
+
+	private final SearchHit[] hits;
+	private final Function<SearchHit, T> hitMapper;
+	private final Object[] entities;
+	private final List<T> content;
+
+	/**
+	 * @param hits the hits of the response, must not be {@literal null}.
+	 * @param hitMapper maps a single hit to an entity, must not be {@literal null}.
+	 * @param pageable the requested page.
+	 * @param total the total number of hits.
+	 * @param aggregations may be {@literal null}.
+	 * @param scrollId may be {@literal null}.
+	 */
+	public LazyAggregatedPageImpl(SearchHit[] hits, Function<SearchHit, T> hitMapper, Pageable pageable, long total,
+			Aggregations aggregations, String scrollId) {
+		super(Collections.<T> emptyList(), pageable, total, aggregations, scrollId);
+		Assert.notNull(hits, "SearchHits must not be null!");
+		Assert.notNull(hitMapper, "Hit mapper must not be null!");
+		this.hits = hits;
+		this.hitMapper = hitMapper;
+		this.entities = new Object[hits.length];
+		this.content = Collections.unmodifiableList(new LazyContent());
+	}
+
+	@Override
+	public List<T> getContent() {
+		return content;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+
+	@Override
+	public int getNumberOfElements() {
+		return hits.length;
+	}
+
+	@Override
+	public boolean hasContent() {
+		return hits.length > 0;
+	}
+
+	@Override
+	public int getSize() {
+		return getPageable().isPaged() ? getPageable().getPageSize() : hits.length;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof LazyAggregatedPageImpl && super.equals(obj)
+				&& content.equals(((LazyAggregatedPageImpl<?>) obj).content);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + content.hashCode();
+	}
+
+	@SuppressWarnings("unchecked")
+	private T getEntity(int index) {
+		Object entity = entities[index];
+		if (entity == null) {
+			T mapped = hitMapper.apply(hits[index]);
+			entity = mapped != null ? mapped : NULL;
+			entities[index] = entity;
+		}
+		return entity != NULL ? (T) entity : null;
+	}
+
+	private class LazyContent extends AbstractList<T> {
+
+		@Override
+		public T get(int index) {
+			return getEntity(index);
+		}
+
+		@Override
+		public int size() {
+			return hits.length;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.mapping;
+
+import java.util.Objects;
+
+/**
+ * Immutable index and type suffixes applied to entities annotated with
+ * {@link org.springframework.data.elasticsearch.repository.support.DynamicIndex} and
+ * {@link org.springframework.data.elasticsearch.repository.support.DynamicType}. A context can either be bound to the
+ * current thread for the duration of a call through
+ * {@link DynamicIndexAndTypeContextHolder#runWithIndexAndType(String, String, java.util.concurrent.Callable)} or be
+ * passed explicitly along with a query, which makes it independent of the thread executing the operation.
+ */
+public final class DynamicIndexAndTypeContext {
+
+	private final String index;
+	private final String type;
+
+	private DynamicIndexAndTypeContext(String index, String type) {
+		this.index = index;
+		this.type = type;
+	}
+
+	/**
+	 * @param index the index suffix, may be {@literal null}.
+	 * @param type the type suffix, may be {@literal null}.
+	 * @return a new context.
+	 */
+	public static DynamicIndexAndTypeContext of(String index, String type) {
+		return new DynamicIndexAndTypeContext(index, type);
+	}
+
+	public String getIndex() {
+		return index;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof DynamicIndexAndTypeContext)) {
+			return false;
+		}
+		DynamicIndexAndTypeContext that = (DynamicIndexAndTypeContext) o;
+		return Objects.equals(index, that.index) && Objects.equals(type, that.type);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(index, type);
+	}
+
+	@Override
+	public String toString() {
+		return "DynamicIndexAndTypeContext{index='" + index + "', type='" + type + "'}";
+	}
+}
@@ -5,11 +5,24 @@ import org.springframework.data.elasticsearch.core.mapping.exception.TypeNotFoun
 import org.springframework.data.elasticsearch.repository.support.DynamicIndex;
 import org.springframework.data.elasticsearch.repository.support.DynamicType;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
 import static org.apache.commons.lang.StringUtils.isBlank;
-import static org.apache.commons.lang.StringUtils.isNotBlank;
 
 /**
  * Created by giovane.silva on 02/10/2017.
+ * <p>
+ * The context is bound to the current thread only and is not inherited by child threads, so pooled executor threads,
+ * virtual threads and async callbacks never observe a stale tenant. Use {@link #runWithIndexAndType(String, String,
+ * Callable)} to scope a context to a call, or pass a {@link DynamicIndexAndTypeContext} along with the query to make an
+ * operation independent of the executing thread.
  */
 public class DynamicIndexAndTypeContextHolder {
 
@@ -17,7 +30,27 @@ public class DynamicIndexAndTypeContextHolder {
     public static final String ORGANIZATION_ID = "organizationId";
     public static final String STORE_ID = "storeId";
 
-    private final ThreadLocal<DynamicIndexAndType> holder = new InheritableThreadLocal<>();
+    /**
+     * Maximum number of resolved names kept per base name; the least recently used names are evicted once exceeded.
+     */
+    static final int MAX_CACHED_SUFFIXES = 1024;
+
+    private static final ClassValue<Boolean> DYNAMIC_INDEX = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(DynamicIndex.class);
+        }
+    };
+
+    private static final ClassValue<Boolean> DYNAMIC_TYPE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return DYNAMIC_INDEX.get(type) && type.isAnnotationPresent(DynamicType.class);
+        }
+    };
+
+    private final ThreadLocal<DynamicIndexAndTypeContext> holder = new ThreadLocal<>();
+    private final ConcurrentMap<String, ResolvedNames> resolvedNames = new ConcurrentHashMap<>();
 
     private DynamicIndexAndTypeContextHolder() {
     }
@@ -26,52 +59,249 @@ public class DynamicIndexAndTypeContextHolder {
         return INSTANCE;
     }
 
+    /**
+     * @return whether the given class is annotated with {@link DynamicIndex}, regardless of the current context. The
+     * result is computed once per class.
+     */
+    public static boolean isDynamicIndexAnnotated(Class<?> javaType) {
+        return DYNAMIC_INDEX.get(javaType);
+    }
+
+    /**
+     * @return whether the given class is annotated with both {@link DynamicIndex} and {@link DynamicType}, regardless of
+     * the current context. The result is computed once per class.
+     */
+    public static boolean isDynamicTypeAnnotated(Class<?> javaType) {
+        return DYNAMIC_TYPE.get(javaType);
+    }
+
     public <T> boolean isDynamicIndex(Class<T> javaType) {
-        boolean isDynamicIndex = javaType.isAnnotationPresent(DynamicIndex.class) && holder.get() != null;
-        return isDynamicIndex && dynamictIndexIsPresent();
+        return isDynamicIndexAnnotated(javaType) && holder.get() != null && dynamictIndexIsPresent();
     }
 
     public <T> boolean isDynamicType(Class<T> javaType) {
-        boolean isDynamicType = this.isDynamicIndex(javaType) && javaType.isAnnotationPresent(DynamicType.class);
-        return isDynamicType && dynamictTypeIsPresent();
+        return this.isDynamicIndex(javaType) && isDynamicTypeAnnotated(javaType) && dynamictTypeIsPresent();
+    }
+
+    /**
+     * Appends the index suffix of the current context to the given name if the entity is
+     * {@link #isDynamicIndexAnnotated(Class) dynamic} and a context is set.
+     */
+    public String resolveIndex(String value, boolean dynamicIndex) {
+        if (!dynamicIndex || holder.get() == null) {
+            return value;
+        }
+        dynamictIndexIsPresent();
+        return getIndex(value);
+    }
+
+    /**
+     * Appends the type suffix of the current context to the given name if the entity is
+     * {@link #isDynamicTypeAnnotated(Class) dynamic} and a context is set.
+     */
+    public String resolveType(String value, boolean dynamicType) {
+        if (!dynamicType || holder.get() == null) {
+            return value;
+        }
+        dynamictIndexIsPresent();
+        dynamictTypeIsPresent();
+        return getType(value);
     }
 
     private boolean dynamictIndexIsPresent() {
-        if(isBlank(holder.get().index)){
+        if(isBlank(holder.get().getIndex())){
             throw new IndexNotFoundException("INDEX_NOT_PRESENT");
         }
         return true;
     }
 
     private boolean dynamictTypeIsPresent() {
-        if(isBlank(holder.get().type)){
+        if(isBlank(holder.get().getType())){
             throw new TypeNotFoundException("TYPE_NOT_PRESENT");
         }
         return true;
     }
 
     public String getIndex(String value) {
-        return value + "-" + holder.get().index;
+        return resolve(value, holder.get().getIndex());
     }
 
     public String getType(String value) {
-        return value + "-" + holder.get().type;
+        return resolve(value, holder.get().getType());
+    }
+
+    private String resolve(String value, String suffix) {
+        if (value == null || suffix == null) {
+            return value + "-" + suffix;
+        }
+        ResolvedNames names = resolvedNames.get(value);
+        if (names == null) {
+            names = resolvedNames.computeIfAbsent(value, key -> new ResolvedNames());
+        }
+        return names.resolve(value, suffix);
     }
 
     public void setIndexAndType(String index, String type) {
-        DynamicIndexAndType holder = new DynamicIndexAndType();
-        holder.index = index;
-        holder.type = type;
-        this.holder.set(holder);
+        this.holder.set(DynamicIndexAndTypeContext.of(index, type));
+    }
+
+    /**
+     * @return the context bound to the current thread or {@literal null} if none is set. Capture it before handing work
+     * over to another thread and restore it there through {@link #withContext(DynamicIndexAndTypeContext, Supplier)}.
+     */
+    public DynamicIndexAndTypeContext current() {
+        return holder.get();
+    }
+
+    /**
+     * Runs the given {@link Callable} with the given index and type suffixes bound to the current thread and restores the
+     * previous context afterwards.
+     */
+    public <V> V runWithIndexAndType(String index, String type, Callable<V> callable) throws Exception {
+        DynamicIndexAndTypeContext previous = holder.get();
+        holder.set(DynamicIndexAndTypeContext.of(index, type));
+        try {
+            return callable.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Runs the given {@link Runnable} with the given index and type suffixes bound to the current thread and restores the
+     * previous context afterwards.
+     */
+    public void runWithIndexAndType(String index, String type, Runnable runnable) {
+        withContext(DynamicIndexAndTypeContext.of(index, type), () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Evaluates the given {@link Supplier} with the given context bound to the current thread and restores the previous
+     * context afterwards. A {@literal null} context leaves the current thread's context untouched.
+     */
+    public <V> V withContext(DynamicIndexAndTypeContext context, Supplier<V> supplier) {
+        if (context == null) {
+            return supplier.get();
+        }
+        DynamicIndexAndTypeContext previous = holder.get();
+        holder.set(context);
+        try {
+            return supplier.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private void restore(DynamicIndexAndTypeContext previous) {
+        if (previous == null) {
+            holder.remove();
+        } else {
+            holder.set(previous);
+        }
     }
 
     public void clean() {
         holder.remove();
     }
 
+    /**
+     * Resolved names of a single base name by suffix. Hits neither lock nor allocate, they only stamp the name with the
+     * current tick of the cache. The tick advances with every cached name, so once more than
+     * {@link #MAX_CACHED_SUFFIXES} names are held, a single thread evicts the least recently used quarter of them.
+     */
+    private static class ResolvedNames {
+
+        private static final int RETAINED_ON_EVICTION = MAX_CACHED_SUFFIXES * 3 / 4;
+
+        private final ConcurrentMap<String, ResolvedName> bySuffix = new ConcurrentHashMap<>();
+        private final AtomicLong tick = new AtomicLong();
+        private final AtomicBoolean evicting = new AtomicBoolean();
+
+        String resolve(String value, String suffix) {
+            ResolvedName name = bySuffix.get(suffix);
+            if (name == null) {
+                name = new ResolvedName(value + "-" + suffix, tick.incrementAndGet());
+                ResolvedName previous = bySuffix.putIfAbsent(suffix, name);
+                if (previous != null) {
+                    name = previous;
+                } else if (bySuffix.size() > MAX_CACHED_SUFFIXES) {
+                    evict();
+                }
+            }
+            name.touch(tick.get());
+            return name.value;
+        }
+
+        private void evict() {
+            if (!evicting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                long[] lastAccesses = new long[bySuffix.size()];
+                int count = 0;
+                for (ResolvedName name : bySuffix.values()) {
+                    if (count == lastAccesses.length) {
+                        break;
+                    }
+                    lastAccesses[count++] = name.lastAccess;
+                }
+                if (count <= RETAINED_ON_EVICTION) {
+                    return;
+                }
+                Arrays.sort(lastAccesses, 0, count);
+                long cutoff = lastAccesses[count - RETAINED_ON_EVICTION];
+                bySuffix.values().removeIf(name -> name.lastAccess < cutoff);
+                // names used at the same tick as the cutoff are evicted in iteration order
+                for (Iterator<ResolvedName> names = bySuffix.values().iterator(); names.hasNext()
+                        && bySuffix.size() > MAX_CACHED_SUFFIXES;) {
+                    if (names.next().lastAccess == cutoff) {
+                        names.remove();
+                    }
+                }
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    private static class ResolvedName {
+
+        private final String value;
+        private volatile long lastAccess;
+
+        ResolvedName(String value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+
+        void touch(long now) {
+            // skips the write while the tick is unchanged, so hot names are not written by every thread
+            if (lastAccess != now) {
+                lastAccess = now;
+            }
+        }
+    }
+
+    /**
+     * Mutable index and type suffixes, formerly held by the thread local of this holder.
+     *
+     * @deprecated the holder now keeps immutable {@link DynamicIndexAndTypeContext}s, use them instead. Kept so code
+     * referring to this class still compiles; convert through {@link #toContext()}.
+     */
+    @Deprecated
     public class DynamicIndexAndType {
         public String index;
         public String type;
+
+        /**
+         * @return an immutable context with the current suffixes of this instance.
+         */
+        public DynamicIndexAndTypeContext toContext() {
+            return DynamicIndexAndTypeContext.of(index, type);
+        }
     }
 
 }
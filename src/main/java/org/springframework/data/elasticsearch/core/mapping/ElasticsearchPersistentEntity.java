@@ -15,6 +15,7 @@
  */
 package org.springframework.data.elasticsearch.core.mapping;
 
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
 import org.springframework.data.mapping.PersistentEntity;
 
 /**
@@ -49,4 +50,6 @@ public interface ElasticsearchPersistentEntity<T> extends PersistentEntity<T, El
 	String settingPath();
 
 	boolean isCreateIndexAndMapping();
+
+	RefreshPolicy getRefreshPolicy();
 }
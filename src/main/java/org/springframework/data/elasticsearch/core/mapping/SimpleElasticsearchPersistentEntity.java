@@ -26,6 +26,7 @@ import org.springframework.context.expression.BeanFactoryAccessor;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Parent;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
 import org.springframework.data.elasticsearch.annotations.Setting;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.util.TypeInformation;
@@ -51,6 +52,10 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 
 	private String indexName;
 	private String indexType;
+	private Expression indexNameExpression;
+	private Expression indexTypeExpression;
+	private final boolean dynamicIndex;
+	private final boolean dynamicType;
 	private boolean useServerConfiguration;
 	private short shards;
 	private short replicas;
@@ -60,6 +65,7 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 	private ElasticsearchPersistentProperty parentIdProperty;
 	private String settingPath;
 	private boolean createIndexAndMapping;
+	private RefreshPolicy refreshPolicy = RefreshPolicy.IMMEDIATE;
 
 	public SimpleElasticsearchPersistentEntity(TypeInformation<T> typeInformation) {
 		super(typeInformation);
@@ -67,18 +73,23 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 		this.parser = new SpelExpressionParser();
 
 		Class<T> clazz = typeInformation.getType();
+		this.dynamicIndex = DynamicIndexAndTypeContextHolder.isDynamicIndexAnnotated(clazz);
+		this.dynamicType = DynamicIndexAndTypeContextHolder.isDynamicTypeAnnotated(clazz);
 		if (clazz.isAnnotationPresent(Document.class)) {
 			Document document = clazz.getAnnotation(Document.class);
 			Assert.hasText(document.indexName(),
 					" Unknown indexName. Make sure the indexName is defined. e.g @Document(indexName=\"foo\")");
 			this.indexName = document.indexName();
 			this.indexType = hasText(document.type()) ? document.type() : clazz.getSimpleName().toLowerCase(Locale.ENGLISH);
+			this.indexNameExpression = parseTemplateExpression(indexName);
+			this.indexTypeExpression = parseTemplateExpression(indexType);
 			this.useServerConfiguration = document.useServerConfiguration();
 			this.shards = document.shards();
 			this.replicas = document.replicas();
 			this.refreshInterval = document.refreshInterval();
 			this.indexStoreType = document.indexStoreType();
 			this.createIndexAndMapping = document.createIndex();
+			this.refreshPolicy = document.refreshPolicy();
 		}
 		if (clazz.isAnnotationPresent(Setting.class)) {
 			this.settingPath = typeInformation.getType().getAnnotation(Setting.class).settingPath();
@@ -94,27 +105,29 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 
 	@Override
 	public String getIndexName() {
-		String value = this.getStringFromSPEL(indexName);
-		DynamicIndexAndTypeContextHolder instance = DynamicIndexAndTypeContextHolder.getInstance();
-		if(instance.isDynamicIndex(this.getTypeInformation().getType())){
-			return instance.getIndex(value);
-		}
-		return value;
+		return DynamicIndexAndTypeContextHolder.getInstance().resolveIndex(resolve(indexName, indexNameExpression),
+				dynamicIndex);
 	}
 
 	@Override
 	public String getIndexType() {
-		String value = this.getStringFromSPEL(indexType);
-        DynamicIndexAndTypeContextHolder instance = DynamicIndexAndTypeContextHolder.getInstance();
-		if(instance.isDynamicType(this.getTypeInformation().getType())){
-            return instance.getType(value);
+		return DynamicIndexAndTypeContextHolder.getInstance().resolveType(resolve(indexType, indexTypeExpression),
+				dynamicType);
+	}
+
+	/**
+	 * Parses the given template once. Returns {@literal null} for values without any {@code #{...}} expression, these are
+	 * used as they are.
+	 */
+	private Expression parseTemplateExpression(String value) {
+		if (value == null || !value.contains(ParserContext.TEMPLATE_EXPRESSION.getExpressionPrefix())) {
+			return null;
 		}
-        return value;
+		return parser.parseExpression(value, ParserContext.TEMPLATE_EXPRESSION);
 	}
 
-	private String getStringFromSPEL(String value) {
-		Expression expression = parser.parseExpression(value, ParserContext.TEMPLATE_EXPRESSION);
-		return expression.getValue(context, String.class);
+	private String resolve(String value, Expression expression) {
+		return expression == null ? value : expression.getValue(context, String.class);
 	}
 
 	@Override
@@ -162,6 +175,11 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 		return createIndexAndMapping;
 	}
 
+	@Override
+	public RefreshPolicy getRefreshPolicy() {
+		return refreshPolicy;
+	}
+
 	@Override
 	public void addPersistentProperty(ElasticsearchPersistentProperty property) {
 		super.addPersistentProperty(property);
@@ -22,6 +22,7 @@ import java.util.List;
 import org.elasticsearch.action.search.SearchType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
 import org.springframework.util.Assert;
 
 /**
@@ -43,6 +44,8 @@ abstract class AbstractQuery implements Query {
 	protected Collection<String> ids;
 	protected String route;
 	protected SearchType searchType = SearchType.DFS_QUERY_THEN_FETCH;
+	protected DynamicIndexAndTypeContext indexAndTypeContext;
+	protected Long scrollTimeInMillis;
 
 	@Override
 	public Sort getSort() {
@@ -149,4 +152,24 @@ abstract class AbstractQuery implements Query {
 	public SearchType getSearchType() {
 		return searchType;
 	}
+
+	@Override
+	public DynamicIndexAndTypeContext getIndexAndTypeContext() {
+		return indexAndTypeContext;
+	}
+
+	@Override
+	public void setIndexAndTypeContext(DynamicIndexAndTypeContext indexAndTypeContext) {
+		this.indexAndTypeContext = indexAndTypeContext;
+	}
+
+	@Override
+	public Long getScrollTimeInMillis() {
+		return scrollTimeInMillis;
+	}
+
+	@Override
+	public void setScrollTimeInMillis(Long scrollTimeInMillis) {
+		this.scrollTimeInMillis = scrollTimeInMillis;
+	}
 }
@@ -16,6 +16,8 @@
 package org.springframework.data.elasticsearch.core.query;
 
 import org.elasticsearch.index.query.QueryBuilder;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
 
 /**
  * DeleteQuery
@@ -30,6 +32,8 @@ public class DeleteQuery {
 	private String type;
 	private Integer pageSize;
 	private Long scrollTimeInMillis;
+	private RefreshPolicy refreshPolicy;
+	private DynamicIndexAndTypeContext indexAndTypeContext;
 
 	public QueryBuilder getQuery() {
 		return query;
@@ -70,4 +74,20 @@ public class DeleteQuery {
 	public void setScrollTimeInMillis(Long scrollTimeInMillis) {
 		this.scrollTimeInMillis = scrollTimeInMillis;
 	}
+
+	public RefreshPolicy getRefreshPolicy() {
+		return refreshPolicy;
+	}
+
+	public void setRefreshPolicy(RefreshPolicy refreshPolicy) {
+		this.refreshPolicy = refreshPolicy;
+	}
+
+	public DynamicIndexAndTypeContext getIndexAndTypeContext() {
+		return indexAndTypeContext;
+	}
+
+	public void setIndexAndTypeContext(DynamicIndexAndTypeContext indexAndTypeContext) {
+		this.indexAndTypeContext = indexAndTypeContext;
+	}
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.elasticsearch.core.query;
 
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
+
 /**
  * GetQuery
  *
@@ -24,6 +26,7 @@ package org.springframework.data.elasticsearch.core.query;
 public class GetQuery {
 
 	private String id;
+	private DynamicIndexAndTypeContext indexAndTypeContext;
 
 	public String getId() {
 		return id;
@@ -32,4 +35,12 @@ public class GetQuery {
 	public void setId(String id) {
 		this.id = id;
 	}
+
+	public DynamicIndexAndTypeContext getIndexAndTypeContext() {
+		return indexAndTypeContext;
+	}
+
+	public void setIndexAndTypeContext(DynamicIndexAndTypeContext indexAndTypeContext) {
+		this.indexAndTypeContext = indexAndTypeContext;
+	}
 }
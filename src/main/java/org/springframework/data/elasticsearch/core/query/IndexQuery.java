@@ -15,6 +15,9 @@
  */
 package org.springframework.data.elasticsearch.core.query;
 
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
+
 /**
  * IndexQuery
  *
@@ -31,6 +34,8 @@ public class IndexQuery {
 	private String type;
 	private String source;
 	private String parentId;
+	private RefreshPolicy refreshPolicy;
+	private DynamicIndexAndTypeContext indexAndTypeContext;
 
 	public String getId() {
 		return id;
@@ -87,4 +92,20 @@ public class IndexQuery {
 	public void setParentId(String parentId) {
 		this.parentId = parentId;
 	}
+
+	public RefreshPolicy getRefreshPolicy() {
+		return refreshPolicy;
+	}
+
+	public void setRefreshPolicy(RefreshPolicy refreshPolicy) {
+		this.refreshPolicy = refreshPolicy;
+	}
+
+	public DynamicIndexAndTypeContext getIndexAndTypeContext() {
+		return indexAndTypeContext;
+	}
+
+	public void setIndexAndTypeContext(DynamicIndexAndTypeContext indexAndTypeContext) {
+		this.indexAndTypeContext = indexAndTypeContext;
+	}
 }
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.elasticsearch.core.query;
 
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
+
 /**
  * IndexQuery Builder
  *
@@ -30,6 +33,8 @@ public class IndexQueryBuilder {
 	private String type;
 	private String source;
 	private String parentId;
+	private RefreshPolicy refreshPolicy;
+	private DynamicIndexAndTypeContext indexAndTypeContext;
 
 	public IndexQueryBuilder withId(String id) {
 		this.id = id;
@@ -66,6 +71,16 @@ public class IndexQueryBuilder {
 		return this;
 	}
 
+	public IndexQueryBuilder withRefreshPolicy(RefreshPolicy refreshPolicy) {
+		this.refreshPolicy = refreshPolicy;
+		return this;
+	}
+
+	public IndexQueryBuilder withIndexAndTypeContext(DynamicIndexAndTypeContext indexAndTypeContext) {
+		this.indexAndTypeContext = indexAndTypeContext;
+		return this;
+	}
+
 	public IndexQuery build() {
 		IndexQuery indexQuery = new IndexQuery();
 		indexQuery.setId(id);
@@ -75,6 +90,8 @@ public class IndexQueryBuilder {
 		indexQuery.setParentId(parentId);
 		indexQuery.setSource(source);
 		indexQuery.setVersion(version);
+		indexQuery.setRefreshPolicy(refreshPolicy);
+		indexQuery.setIndexAndTypeContext(indexAndTypeContext);
 		return indexQuery;
 	}
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import java.util.Objects;
+
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable address of a single document of a multi get spanning several indices or types. The index and type are
+ * either given explicitly or resolved from the entity class, applying the item's {@link DynamicIndexAndTypeContext}
+ * if any, which allows to fetch documents of several tenants in a single round trip.
+ */
+public final class MultiGetItem {
+
+	private final String index;
+	private final String type;
+	private final String id;
+	private final String routing;
+	private final DynamicIndexAndTypeContext indexAndTypeContext;
+
+	private MultiGetItem(String index, String type, String id, String routing,
+			DynamicIndexAndTypeContext indexAndTypeContext) {
+
+		Assert.notNull(id, "Id must not be null!");
+
+		this.index = index;
+		this.type = type;
+		this.id = id;
+		this.routing = routing;
+		this.indexAndTypeContext = indexAndTypeContext;
+	}
+
+	/**
+	 * @param index the index, {@literal null} to use the index of the entity.
+	 * @param type the type, {@literal null} to use the type of the entity.
+	 * @param id must not be {@literal null}.
+	 * @return a new item.
+	 */
+	public static MultiGetItem of(String index, String type, String id) {
+		return new MultiGetItem(index, type, id, null, null);
+	}
+
+	/**
+	 * @param index the index, {@literal null} to use the index of the entity.
+	 * @param type the type, {@literal null} to use the type of the entity.
+	 * @param id must not be {@literal null}.
+	 * @param routing the routing, may be {@literal null}.
+	 * @return a new item.
+	 */
+	public static MultiGetItem of(String index, String type, String id, String routing) {
+		return new MultiGetItem(index, type, id, routing, null);
+	}
+
+	/**
+	 * @param indexAndTypeContext the tenant to resolve the index and type of the entity for, may be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return a new item.
+	 */
+	public static MultiGetItem of(DynamicIndexAndTypeContext indexAndTypeContext, String id) {
+		return new MultiGetItem(null, null, id, null, indexAndTypeContext);
+	}
+
+	/**
+	 * @param routing the routing, may be {@literal null}.
+	 * @return a copy of this item using the given routing.
+	 */
+	public MultiGetItem withRouting(String routing) {
+		return new MultiGetItem(index, type, id, routing, indexAndTypeContext);
+	}
+
+	public String getIndex() {
+		return index;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getRouting() {
+		return routing;
+	}
+
+	public DynamicIndexAndTypeContext getIndexAndTypeContext() {
+		return indexAndTypeContext;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof MultiGetItem)) {
+			return false;
+		}
+		MultiGetItem that = (MultiGetItem) o;
+		return Objects.equals(index, that.index) && Objects.equals(type, that.type) && id.equals(that.id)
+				&& Objects.equals(routing, that.routing) && Objects.equals(indexAndTypeContext, that.indexAndTypeContext);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(index, type, id, routing, indexAndTypeContext);
+	}
+
+	@Override
+	public String toString() {
+		return "MultiGetItem{index='" + index + "', type='" + type + "', id='" + id + "', routing='" + routing
+				+ "', indexAndTypeContext=" + indexAndTypeContext + "}";
+	}
+}
@@ -25,6 +25,7 @@ import org.elasticsearch.search.aggregations.AbstractAggregationBuilder;
 import org.elasticsearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
 import org.springframework.data.elasticsearch.core.facet.FacetRequest;
 
 /**
@@ -54,6 +55,7 @@ public class NativeSearchQueryBuilder {
 	private Collection<String> ids;
 	private String route;
 	private SearchType searchType;
+	private DynamicIndexAndTypeContext indexAndTypeContext;
 
 	public NativeSearchQueryBuilder withQuery(QueryBuilder queryBuilder) {
 		this.queryBuilder = queryBuilder;
@@ -140,6 +142,11 @@ public class NativeSearchQueryBuilder {
 		return this;
 	}
 
+	public NativeSearchQueryBuilder withIndexAndTypeContext(DynamicIndexAndTypeContext indexAndTypeContext) {
+		this.indexAndTypeContext = indexAndTypeContext;
+		return this;
+	}
+
 	public NativeSearchQuery build() {
 		NativeSearchQuery nativeSearchQuery = new NativeSearchQuery(queryBuilder, filterBuilder, sortBuilders, highlightFields);
 		nativeSearchQuery.setPageable(pageable);
@@ -192,6 +199,10 @@ public class NativeSearchQueryBuilder {
 			nativeSearchQuery.setSearchType(searchType);
 		}
 
+		if (indexAndTypeContext != null) {
+			nativeSearchQuery.setIndexAndTypeContext(indexAndTypeContext);
+		}
+
 		return nativeSearchQuery;
 	}
 }
@@ -21,6 +21,7 @@ import org.elasticsearch.action.search.SearchType;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
 
 /**
  * Query
@@ -147,4 +148,39 @@ public interface Query {
 	 * @return
 	 */
 	SearchType getSearchType();
+
+	/**
+	 * Get the index and type context used to resolve dynamic index and type names of the queried entity, takes
+	 * precedence over the context bound to the current thread.
+	 *
+	 * @return the context or {@literal null} to fall back to the current thread's context.
+	 */
+	default DynamicIndexAndTypeContext getIndexAndTypeContext() {
+		return null;
+	}
+
+	/**
+	 * Set the index and type context used to resolve dynamic index and type names of the queried entity. Ignored by
+	 * default, so implementations that do not hold a context keep resolving names from the current thread.
+	 *
+	 * @param indexAndTypeContext the context or {@literal null} to fall back to the current thread's context.
+	 */
+	default void setIndexAndTypeContext(DynamicIndexAndTypeContext indexAndTypeContext) {}
+
+	/**
+	 * Get how long the scroll context is kept alive between two scroll requests when the query is streamed.
+	 *
+	 * @return the keep alive or {@literal null} to use the default of the template.
+	 */
+	default Long getScrollTimeInMillis() {
+		return null;
+	}
+
+	/**
+	 * Set how long the scroll context is kept alive between two scroll requests when the query is streamed. Ignored by
+	 * default, so implementations that do not hold a keep alive use the default of the template.
+	 *
+	 * @param scrollTimeInMillis the keep alive or {@literal null} to use the default of the template.
+	 */
+	default void setScrollTimeInMillis(Long scrollTimeInMillis) {}
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import java.util.Arrays;
+
+import org.springframework.data.domain.AbstractPageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Pageable} addressing a page by the sort values of the last document of the previous page instead of an
+ * offset, translated to {@code search_after}. Fetching a page therefore costs the same regardless of its depth and is
+ * not limited by {@code index.max_result_window}. Only the first page can be requested directly, further pages are
+ * obtained through {@link org.springframework.data.elasticsearch.core.CursorPage#nextPageable()}.
+ *
+ * @see org.springframework.data.elasticsearch.core.ElasticsearchOperations#queryForCursorPage(SearchQuery, Class)
+ */
+public class SearchAfterPageRequest extends AbstractPageRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Sort sort;
+	private final Object[] searchAfter;
+
+	protected SearchAfterPageRequest(int page, int size, Sort sort, Object[] searchAfter) {
+
+		super(page, size);
+
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.isTrue(page == 0 || searchAfter != null, "SearchAfter must not be null for pages other than the first!");
+
+		this.sort = sort;
+		this.searchAfter = searchAfter == null ? null : searchAfter.clone();
+	}
+
+	/**
+	 * @param size the size of the page, must be greater than zero.
+	 * @param sort must not be {@literal null}.
+	 * @return the request for the first page.
+	 */
+	public static SearchAfterPageRequest first(int size, Sort sort) {
+		return new SearchAfterPageRequest(0, size, sort, null);
+	}
+
+	/**
+	 * @param page the zero based number of the page, only informational.
+	 * @param size the size of the page, must be greater than zero.
+	 * @param sort must not be {@literal null}.
+	 * @param searchAfter the sort values of the last document of the previous page, must not be {@literal null} unless
+	 *          requesting the first page.
+	 * @return a new request.
+	 */
+	public static SearchAfterPageRequest of(int page, int size, Sort sort, Object[] searchAfter) {
+		return new SearchAfterPageRequest(page, size, sort, searchAfter);
+	}
+
+	/**
+	 * @return the sort values to search after or {@literal null} for the first page.
+	 */
+	public Object[] getSearchAfter() {
+		return searchAfter == null ? null : searchAfter.clone();
+	}
+
+	@Override
+	public Sort getSort() {
+		return sort;
+	}
+
+	/**
+	 * Not supported, as the cursor of the next page is only known once the current page has been fetched.
+	 *
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public Pageable next() {
+		throw new UnsupportedOperationException("The next page is obtained through CursorPage.nextPageable()");
+	}
+
+	/**
+	 * Only supported on the second page, as search after cannot page backwards.
+	 *
+	 * @throws UnsupportedOperationException on pages other than the second.
+	 */
+	@Override
+	public Pageable previous() {
+		if (getPageNumber() == 1) {
+			return first();
+		}
+		throw new UnsupportedOperationException("Search after does not support paging backwards");
+	}
+
+	@Override
+	public Pageable first() {
+		return first(getPageSize(), sort);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof SearchAfterPageRequest)) {
+			return false;
+		}
+		SearchAfterPageRequest that = (SearchAfterPageRequest) obj;
+		return super.equals(that) && sort.equals(that.sort) && Arrays.equals(searchAfter, that.searchAfter);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * super.hashCode() + sort.hashCode()) + Arrays.hashCode(searchAfter);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Search after page request [number: %d, size %d, sort: %s, search after: %s]",
+				getPageNumber(), getPageSize(), sort, Arrays.toString(searchAfter));
+	}
+}
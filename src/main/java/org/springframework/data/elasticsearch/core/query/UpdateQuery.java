@@ -17,6 +17,8 @@ package org.springframework.data.elasticsearch.core.query;
 
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.update.UpdateRequest;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
 
 /**
  * @author Rizwan Idrees
@@ -30,6 +32,8 @@ public class UpdateQuery {
 	private String type;
 	private Class clazz;
 	private boolean doUpsert;
+	private RefreshPolicy refreshPolicy;
+	private DynamicIndexAndTypeContext indexAndTypeContext;
 
 	public String getId() {
 		return id;
@@ -78,4 +82,20 @@ public class UpdateQuery {
 	public void setDoUpsert(boolean doUpsert) {
 		this.doUpsert = doUpsert;
 	}
+
+	public RefreshPolicy getRefreshPolicy() {
+		return refreshPolicy;
+	}
+
+	public void setRefreshPolicy(RefreshPolicy refreshPolicy) {
+		this.refreshPolicy = refreshPolicy;
+	}
+
+	public DynamicIndexAndTypeContext getIndexAndTypeContext() {
+		return indexAndTypeContext;
+	}
+
+	public void setIndexAndTypeContext(DynamicIndexAndTypeContext indexAndTypeContext) {
+		this.indexAndTypeContext = indexAndTypeContext;
+	}
 }
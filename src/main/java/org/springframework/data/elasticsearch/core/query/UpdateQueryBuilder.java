@@ -17,6 +17,8 @@ package org.springframework.data.elasticsearch.core.query;
 
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.update.UpdateRequest;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
 
 /**
  * @author Rizwan Idrees
@@ -31,6 +33,8 @@ public class UpdateQueryBuilder {
 	private String type;
 	private Class clazz;
 	private boolean doUpsert;
+	private RefreshPolicy refreshPolicy;
+	private DynamicIndexAndTypeContext indexAndTypeContext;
 
 	public UpdateQueryBuilder withId(String id) {
 		this.id = id;
@@ -67,6 +71,16 @@ public class UpdateQueryBuilder {
 		return this;
 	}
 
+	public UpdateQueryBuilder withRefreshPolicy(RefreshPolicy refreshPolicy) {
+		this.refreshPolicy = refreshPolicy;
+		return this;
+	}
+
+	public UpdateQueryBuilder withIndexAndTypeContext(DynamicIndexAndTypeContext indexAndTypeContext) {
+		this.indexAndTypeContext = indexAndTypeContext;
+		return this;
+	}
+
 	public UpdateQuery build() {
 		UpdateQuery updateQuery = new UpdateQuery();
 		updateQuery.setId(id);
@@ -81,6 +95,8 @@ public class UpdateQueryBuilder {
 		}
 		updateQuery.setUpdateRequest(updateRequest);
 		updateQuery.setDoUpsert(doUpsert);
+		updateQuery.setRefreshPolicy(refreshPolicy);
+		updateQuery.setIndexAndTypeContext(indexAndTypeContext);
 		return updateQuery;
 	}
 }
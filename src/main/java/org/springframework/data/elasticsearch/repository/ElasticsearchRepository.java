@@ -20,8 +20,10 @@ import java.io.Serializable;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.core.query.SearchQuery;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.util.CloseableIterator;
 
 /**
  * @param <T>
@@ -34,6 +36,28 @@ public interface ElasticsearchRepository<T, ID extends Serializable> extends Ela
 
 	<S extends T> S index(S entity);
 
+	/**
+	 * Returns all entities, scrolled lazily like the matches of {@link #search(QueryBuilder)}.
+	 */
+	@Override
+	Iterable<T> findAll();
+
+	/**
+	 * Returns all entities in the given order, scrolled lazily like the matches of {@link #search(QueryBuilder)}.
+	 */
+	@Override
+	Iterable<T> findAll(Sort sort);
+
+	/**
+	 * Returns all matches of the given query without loading them up front. Every {@link Iterable#iterator()} of the
+	 * result opens a scroll of its own, so iterating twice runs the search twice. The iterator is a
+	 * {@link CloseableIterator}: close it when stopping before the last match, otherwise the scroll stays open on the
+	 * cluster until its keep alive expires. {@link Iterable#forEach(java.util.function.Consumer)} always releases it.
+	 * Collect the result into a list if it is to be traversed more than once.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return the lazily scrolled matches.
+	 */
 	Iterable<T> search(QueryBuilder query);
 
 	Page<T> search(QueryBuilder query, Pageable pageable);
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+
+import org.elasticsearch.index.query.QueryBuilder;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+/**
+ * Reactive counterpart of {@link ElasticsearchRepository}. Unbounded reads are backed by a scroll that fetches the next
+ * page only when downstream demand arrives.
+ */
+@NoRepositoryBean
+public interface ReactiveElasticsearchRepository<T, ID extends Serializable> extends ReactiveSortingRepository<T, ID> {
+
+	<S extends T> Mono<S> index(S entity);
+
+	Flux<T> search(QueryBuilder query);
+
+	Mono<Void> refresh();
+
+	Class<T> getEntityClass();
+}
@@ -29,6 +29,7 @@ import org.springframework.data.elasticsearch.repository.support.ElasticsearchRe
 import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
 import org.w3c.dom.Element;
 
 /**
@@ -99,4 +100,16 @@ public class ElasticsearchRepositoryConfigExtension extends RepositoryConfigurat
 	protected Collection<Class<?>> getIdentifyingTypes() {
 		return Arrays.<Class<?>> asList(ElasticsearchRepository.class, ElasticsearchCrudRepository.class);
 	}
+
+	/**
+	 * Reactive repositories are created through
+	 * {@link org.springframework.data.elasticsearch.repository.support.ReactiveElasticsearchRepositoryFactory} and
+	 * skipped by the scan instead of failing it.
+	 *
+	 * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#useRepositoryConfiguration(org.springframework.data.repository.core.RepositoryMetadata)
+	 */
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return !metadata.isReactiveRepository();
+	}
 }
@@ -15,7 +15,10 @@
  */
 package org.springframework.data.elasticsearch.repository.query;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 
@@ -41,4 +44,16 @@ public abstract class AbstractElasticsearchRepositoryQuery implements Repository
 	public QueryMethod getQueryMethod() {
 		return queryMethod;
 	}
+
+	/**
+	 * Prepares the given query to be scrolled with the batch size and keep alive of the query method, falling back to
+	 * the defaults of the template. Any sort of the query is retained.
+	 *
+	 * @param query must not be {@literal null}.
+	 */
+	protected void applyScrollOptions(Query query) {
+		int batchSize = queryMethod.getScrollBatchSize();
+		query.setPageable(batchSize > 0 ? PageRequest.of(0, batchSize) : Pageable.unpaged());
+		query.setScrollTimeInMillis(queryMethod.getScrollTimeInMillis());
+	}
 }
@@ -15,8 +15,9 @@
  */
 package org.springframework.data.elasticsearch.repository.query;
 
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
@@ -38,7 +39,7 @@ import org.springframework.data.util.StreamUtils;
  */
 public class ElasticsearchPartQuery extends AbstractElasticsearchRepositoryQuery {
 
-	private final PartTree tree;
+	protected final PartTree tree;
 	private final MappingContext<?, ElasticsearchPersistentProperty> mappingContext;
 
 	public ElasticsearchPartQuery(ElasticsearchQueryMethod method, ElasticsearchOperations elasticsearchOperations) {
@@ -52,28 +53,21 @@ public class ElasticsearchPartQuery extends AbstractElasticsearchRepositoryQuery
 		ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
 		CriteriaQuery query = createQuery(accessor);
 		if(tree.isDelete()) {
-			Object result = countOrGetDocumentsForDelete(query, accessor);
-			elasticsearchOperations.delete(query, queryMethod.getEntityInformation().getJavaType());
-			return result;
+			return delete(query, accessor);
+		} else if (queryMethod.isCursorPageQuery()) {
+			query.setPageable(accessor.getPageable());
+			return elasticsearchOperations.queryForCursorPage(query, queryMethod.getEntityInformation().getJavaType());
 		} else if (queryMethod.isPageQuery()) {
 			query.setPageable(accessor.getPageable());
 			return elasticsearchOperations.queryForPage(query, queryMethod.getEntityInformation().getJavaType());
 		} else if (queryMethod.isStreamQuery()) {
-			Class<?> entityType = queryMethod.getEntityInformation().getJavaType();
-			if (query.getPageable().isUnpaged()) {
-				int itemCount = (int) elasticsearchOperations.count(query, queryMethod.getEntityInformation().getJavaType());
-				query.setPageable(PageRequest.of(0, Math.max(1, itemCount)));
-			}
-
-			return StreamUtils.createStreamFromIterator((CloseableIterator<Object>) elasticsearchOperations.stream(query, entityType));
-
+			applyScrollOptions(query);
+			return StreamUtils.createStreamFromIterator(stream(query));
 		} else if (queryMethod.isCollectionQuery()) {
-			if (accessor.getPageable() == null) {
-				int itemCount = (int) elasticsearchOperations.count(query, queryMethod.getEntityInformation().getJavaType());
-				query.setPageable(PageRequest.of(0, Math.max(1, itemCount)));
-			} else {
-			    query.setPageable(accessor.getPageable());
-		    }
+			if (accessor.getPageable().isUnpaged()) {
+				return scrollAll(query);
+			}
+			query.setPageable(accessor.getPageable());
 			return elasticsearchOperations.queryForList(query, queryMethod.getEntityInformation().getJavaType());
 		} else if (tree.isCountProjection()) {
 			return elasticsearchOperations.count(query, queryMethod.getEntityInformation().getJavaType());
@@ -81,22 +75,46 @@ public class ElasticsearchPartQuery extends AbstractElasticsearchRepositoryQuery
 		return elasticsearchOperations.queryForObject(query, queryMethod.getEntityInformation().getJavaType());
 	}
 
-	private Object countOrGetDocumentsForDelete(CriteriaQuery query, ParametersParameterAccessor accessor) {
+	/**
+	 * Deletes the matches of the query. Methods returning a number or nothing delete page by page without holding the
+	 * matches, methods returning a collection load all deleted entities first.
+	 */
+	private Object delete(CriteriaQuery query, ParametersParameterAccessor accessor) {
 
 		Object result = null;
 
 		if (queryMethod.isCollectionQuery()) {
 			if (accessor.getPageable().isUnpaged()) {
-				int itemCount = (int) elasticsearchOperations.count(query, queryMethod.getEntityInformation().getJavaType());
-				query.setPageable(PageRequest.of(0, Math.max(1, itemCount)));
+				result = scrollAll(query);
 			} else {
 				query.setPageable(accessor.getPageable());
+				result = elasticsearchOperations.queryForList(query, queryMethod.getEntityInformation().getJavaType());
 			}
-			result = elasticsearchOperations.queryForList(query, queryMethod.getEntityInformation().getJavaType());
 		}
 
+		long deleted = elasticsearchOperations.delete(query, queryMethod.getEntityInformation().getJavaType());
 		if (ClassUtils.isAssignable(Number.class, queryMethod.getReturnedObjectType())) {
-			result = elasticsearchOperations.count(query, queryMethod.getEntityInformation().getJavaType());
+			result = deleted;
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private CloseableIterator<Object> stream(CriteriaQuery query) {
+		return (CloseableIterator<Object>) elasticsearchOperations.stream(query,
+				queryMethod.getEntityInformation().getJavaType());
+	}
+
+	/**
+	 * Collects all matches of an unpaged query by scrolling through them instead of counting them first and loading them
+	 * in a single response. This avoids {@code index.max_result_window}, but the returned list still holds every match on
+	 * the heap; query methods returning a {@link java.util.stream.Stream} map one scroll page at a time instead.
+	 */
+	private List<Object> scrollAll(CriteriaQuery query) {
+		applyScrollOptions(query);
+		List<Object> result = new ArrayList<>();
+		try (CloseableIterator<Object> iterator = stream(query)) {
+			iterator.forEachRemaining(result::add);
 		}
 		return result;
 	}
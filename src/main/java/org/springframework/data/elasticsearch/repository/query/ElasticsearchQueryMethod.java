@@ -17,8 +17,11 @@ package org.springframework.data.elasticsearch.repository.query;
 
 import java.lang.reflect.Method;
 
+import org.elasticsearch.common.unit.TimeValue;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.elasticsearch.annotations.Query;
+import org.springframework.data.elasticsearch.annotations.Scroll;
+import org.springframework.data.elasticsearch.core.CursorPage;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
@@ -34,10 +37,19 @@ import org.springframework.data.repository.query.QueryMethod;
 public class ElasticsearchQueryMethod extends QueryMethod {
 
 	private final Query queryAnnotation;
+	private final boolean cursorPageQuery;
+	private final int scrollBatchSize;
+	private final Long scrollTimeInMillis;
 
 	public ElasticsearchQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
 		super(method, metadata, factory);
 		this.queryAnnotation = method.getAnnotation(Query.class);
+		this.cursorPageQuery = CursorPage.class.isAssignableFrom(method.getReturnType());
+
+		Scroll scroll = AnnotationUtils.findAnnotation(method, Scroll.class);
+		this.scrollBatchSize = scroll != null ? scroll.batchSize() : -1;
+		this.scrollTimeInMillis = scroll != null && !scroll.keepAlive().isEmpty()
+				? TimeValue.parseTimeValue(scroll.keepAlive(), "keepAlive").millis() : null;
 	}
 
 	public boolean hasAnnotatedQuery() {
@@ -47,4 +59,27 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 	public String getAnnotatedQuery() {
 		return (String) AnnotationUtils.getValue(queryAnnotation, "value");
 	}
+
+	/**
+	 * @return whether the method returns a {@link CursorPage} and thus pages through {@code search_after}.
+	 */
+	public boolean isCursorPageQuery() {
+		return cursorPageQuery;
+	}
+
+	/**
+	 * @return the number of documents fetched per scroll request as configured through {@link Scroll#batchSize()} or
+	 *         {@literal -1} to use the default of the template.
+	 */
+	public int getScrollBatchSize() {
+		return scrollBatchSize;
+	}
+
+	/**
+	 * @return the scroll keep alive as configured through {@link Scroll#keepAlive()} or {@literal null} to use the
+	 *         default of the template.
+	 */
+	public Long getScrollTimeInMillis() {
+		return scrollTimeInMillis;
+	}
 }
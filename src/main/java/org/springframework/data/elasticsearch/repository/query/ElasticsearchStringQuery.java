@@ -15,15 +15,20 @@
  */
 package org.springframework.data.elasticsearch.repository.query;
 
+import static org.elasticsearch.index.query.QueryBuilders.*;
+
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.springframework.core.convert.support.GenericConversionService;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.convert.DateTimeConverters;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.SearchQuery;
 import org.springframework.data.elasticsearch.core.query.StringQuery;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -56,6 +61,9 @@ public class ElasticsearchStringQuery extends AbstractElasticsearchRepositoryQue
 			String query) {
 		super(queryMethod, elasticsearchOperations);
 		Assert.notNull(query, "Query cannot be empty");
+		Assert.isTrue(!queryMethod.isCursorPageQuery(),
+				String.format("@Query method %s cannot return a CursorPage, use a derived query method instead!",
+						queryMethod.getName()));
 		this.query = query;
 	}
 
@@ -66,6 +74,8 @@ public class ElasticsearchStringQuery extends AbstractElasticsearchRepositoryQue
 		if (queryMethod.isPageQuery()) {
 			stringQuery.setPageable(accessor.getPageable());
 			return elasticsearchOperations.queryForPage(stringQuery, queryMethod.getEntityInformation().getJavaType());
+		} else if (queryMethod.isStreamQuery()) {
+			return StreamUtils.createStreamFromIterator(stream(stringQuery, accessor));
 		} else if (queryMethod.isCollectionQuery()) {
 			if (accessor.getPageable().isPaged()) {
 				stringQuery.setPageable(accessor.getPageable());
@@ -76,6 +86,19 @@ public class ElasticsearchStringQuery extends AbstractElasticsearchRepositoryQue
 		return elasticsearchOperations.queryForObject(stringQuery, queryMethod.getEntityInformation().getJavaType());
 	}
 
+	/**
+	 * Scrolls through the matches of the given query. The template only scrolls {@link SearchQuery search queries}, so
+	 * the query source is wrapped into one.
+	 */
+	@SuppressWarnings("unchecked")
+	private CloseableIterator<Object> stream(StringQuery stringQuery, ParametersParameterAccessor accessor) {
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(wrapperQuery(stringQuery.getSource())).build();
+		searchQuery.addSort(accessor.getSort());
+		applyScrollOptions(searchQuery);
+		return (CloseableIterator<Object>) elasticsearchOperations.stream(searchQuery,
+				queryMethod.getEntityInformation().getJavaType());
+	}
+
 	protected StringQuery createQuery(ParametersParameterAccessor parameterAccessor) {
 		String queryString = replacePlaceholders(this.query, parameterAccessor);
 		return new StringQuery(queryString);
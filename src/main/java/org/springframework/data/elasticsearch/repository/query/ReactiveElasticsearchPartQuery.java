@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContextHolder;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reactive {@link ElasticsearchPartQuery} returning {@link Flux} for collection queries and {@link Mono} otherwise.
+ * Unpaged collection queries are backed by a scroll that is advanced on downstream demand. Criteria queries have no
+ * non-blocking template counterpart, so they are executed on {@link Schedulers#elastic()} rather than on the
+ * subscribing thread. The dynamic index and type context of the calling thread is captured when the publisher is
+ * created.
+ */
+public class ReactiveElasticsearchPartQuery extends ElasticsearchPartQuery {
+
+	public ReactiveElasticsearchPartQuery(ReactiveElasticsearchQueryMethod method,
+			ElasticsearchOperations elasticsearchOperations) {
+		super(method, elasticsearchOperations);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object execute(Object[] parameters) {
+		ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
+		CriteriaQuery query = createQuery(accessor);
+		Class<Object> entityType = (Class<Object>) queryMethod.getEntityInformation().getJavaType();
+		// the publisher is subscribed to later, possibly on another thread, so the tenant is captured on assembly
+		query.setIndexAndTypeContext(DynamicIndexAndTypeContextHolder.getInstance().current());
+
+		if (tree.isDelete()) {
+			return Mono.fromCallable(() -> {
+				long deleted = elasticsearchOperations.delete(query, entityType);
+				return ClassUtils.isAssignable(Number.class, queryMethod.getReturnedObjectType()) ? deleted : null;
+			}).subscribeOn(Schedulers.elastic());
+		} else if (tree.isCountProjection()) {
+			return Mono.fromCallable(() -> elasticsearchOperations.count(query, entityType))
+					.subscribeOn(Schedulers.elastic());
+		} else if (queryMethod.isCollectionQuery()) {
+			if (accessor.getPageable().isPaged()) {
+				query.setPageable(accessor.getPageable());
+				return Flux.defer(() -> Flux.fromIterable(elasticsearchOperations.queryForList(query, entityType)))
+						.subscribeOn(Schedulers.elastic());
+			}
+			return ReactiveScrollUtils.fromScroll(() -> elasticsearchOperations.stream(query, entityType));
+		}
+		return Mono.fromCallable(() -> elasticsearchOperations.queryForObject(query, entityType))
+				.subscribeOn(Schedulers.elastic());
+	}
+}
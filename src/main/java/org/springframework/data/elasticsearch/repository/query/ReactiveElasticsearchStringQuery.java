@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import static org.elasticsearch.index.query.QueryBuilders.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.data.elasticsearch.core.AsyncElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContextHolder;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.SearchQuery;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.util.Assert;
+
+/**
+ * Reactive {@link ElasticsearchStringQuery} returning {@link Flux} for collection queries and {@link Mono} otherwise.
+ * Paged collection queries are sent through {@link AsyncElasticsearchOperations}, unpaged ones are backed by a scroll
+ * that is advanced on downstream demand. Single results are looked up on {@link Schedulers#elastic()} rather than on the
+ * subscribing thread. The dynamic index and type context of the calling thread is captured when the publisher is
+ * created.
+ */
+public class ReactiveElasticsearchStringQuery extends ElasticsearchStringQuery {
+
+	private final AsyncElasticsearchOperations asyncElasticsearchOperations;
+
+	public ReactiveElasticsearchStringQuery(ReactiveElasticsearchQueryMethod queryMethod,
+			ElasticsearchOperations elasticsearchOperations, String query) {
+		super(queryMethod, elasticsearchOperations, query);
+		Assert.isInstanceOf(AsyncElasticsearchOperations.class, elasticsearchOperations,
+				"ElasticsearchOperations must implement AsyncElasticsearchOperations!");
+		this.asyncElasticsearchOperations = (AsyncElasticsearchOperations) elasticsearchOperations;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object execute(Object[] parameters) {
+		ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
+		StringQuery stringQuery = createQuery(accessor);
+		Class<Object> entityType = (Class<Object>) queryMethod.getEntityInformation().getJavaType();
+		// the publisher is subscribed to later, possibly on another thread, so the tenant is captured on assembly
+		stringQuery.setIndexAndTypeContext(DynamicIndexAndTypeContextHolder.getInstance().current());
+
+		if (queryMethod.isCollectionQuery()) {
+			SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(wrapperQuery(stringQuery.getSource()))
+					.withIndexAndTypeContext(stringQuery.getIndexAndTypeContext()).build();
+			if (accessor.getPageable().isPaged()) {
+				searchQuery.setPageable(accessor.getPageable());
+				return Mono
+						.defer(() -> Mono.fromFuture(asyncElasticsearchOperations.queryForPageAsync(searchQuery, entityType)))
+						.flatMapIterable(page -> page.getContent());
+			}
+			return ReactiveScrollUtils.fromScroll(() -> elasticsearchOperations.stream(searchQuery, entityType));
+		}
+		return Mono.fromCallable(() -> elasticsearchOperations.queryForObject(stringQuery, entityType))
+				.subscribeOn(Schedulers.elastic());
+	}
+}
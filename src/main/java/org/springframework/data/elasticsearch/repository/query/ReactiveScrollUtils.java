@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Utility methods to expose scroll based {@link CloseableIterator}s as {@link Flux}.
+ */
+public final class ReactiveScrollUtils {
+
+	private ReactiveScrollUtils() {}
+
+	/**
+	 * Creates a {@link Flux} emitting the elements of the scroll opened by the given supplier. The scroll is opened on
+	 * subscription, a further scroll page is fetched only once downstream demand exceeds the hits already received, and
+	 * the scroll is closed on completion, error or cancellation.
+	 * <p>
+	 * The scroll is opened, advanced and closed on {@link Schedulers#elastic()}, so the blocking round trips never run on
+	 * the subscribing or requesting thread, e.g. an event loop.
+	 *
+	 * @param iteratorSupplier opens the scroll, must not be {@literal null}.
+	 * @return
+	 */
+	public static <T> Flux<T> fromScroll(Supplier<CloseableIterator<T>> iteratorSupplier) {
+		return Flux.<T, CloseableIterator<T>> generate(iteratorSupplier::get, (iterator, sink) -> {
+			if (iterator.hasNext()) {
+				sink.next(iterator.next());
+			} else {
+				sink.complete();
+			}
+			return iterator;
+		}, CloseableIterator::close).subscribeOn(Schedulers.elastic());
+	}
+}
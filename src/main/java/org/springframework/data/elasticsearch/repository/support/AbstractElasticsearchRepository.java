@@ -21,7 +21,6 @@ import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,11 +30,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
 import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContextHolder;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.GetQuery;
@@ -64,6 +63,7 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 	protected ElasticsearchOperations elasticsearchOperations;
 	protected Class<T> entityClass;
 	protected ElasticsearchEntityInformation<T, ID> entityInformation;
+	private RefreshPolicy refreshPolicy;
 
 	public AbstractElasticsearchRepository() {}
 
@@ -113,11 +113,7 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 
 	@Override
 	public Iterable<T> findAll() {
-		int itemCount = (int) this.count();
-		if (itemCount == 0) {
-			return new PageImpl<>(Collections.<T> emptyList());
-		}
-		return this.findAll(PageRequest.of(0, Math.max(1, itemCount)));
+		return scroll(matchAllQuery(), Sort.unsorted());
 	}
 
 	@Override
@@ -128,13 +124,7 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 
 	@Override
 	public Iterable<T> findAll(Sort sort) {
-		int itemCount = (int) this.count();
-		if (itemCount == 0) {
-			return new PageImpl<>(Collections.<T> emptyList());
-		}
-		SearchQuery query = new NativeSearchQueryBuilder().withQuery(matchAllQuery())
-				.withPageable(PageRequest.of(0, itemCount, sort)).build();
-		return elasticsearchOperations.queryForPage(query, getEntityClass());
+		return scroll(matchAllQuery(), sort);
 	}
 
 	@Override
@@ -154,7 +144,6 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 	public <S extends T> S save(S entity) {
 		Assert.notNull(entity, "Cannot save 'null' entity.");
 		elasticsearchOperations.index(createIndexQuery(entity));
-		elasticsearchOperations.refresh(this.getIndexName());
 		return entity;
 	}
 
@@ -166,7 +155,6 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 			queries.add(createIndexQuery(s));
 		}
 		elasticsearchOperations.bulkIndex(queries);
-		elasticsearchOperations.refresh(this.getIndexName());
 		return entities;
 	}
 
@@ -183,7 +171,6 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 			queries.add(createIndexQuery(s));
 		}
 		elasticsearchOperations.bulkIndex(queries);
-		elasticsearchOperations.refresh(this.getIndexName());
 		return entities;
 	}
 
@@ -194,13 +181,21 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 
 	@Override
 	public Iterable<T> search(QueryBuilder query) {
-		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(query).build();
-		int count = (int) elasticsearchOperations.count(searchQuery, getEntityClass());
-		if (count == 0) {
-			return new PageImpl<>(Collections.<T> emptyList());
-		}
-		searchQuery.setPageable(PageRequest.of(0, count));
-		return elasticsearchOperations.queryForPage(searchQuery, getEntityClass());
+		return scroll(query, Sort.unsorted());
+	}
+
+	/**
+	 * Returns a lazy {@link Iterable} scrolling through all matches, in the index and type of the context current at the
+	 * time of the call.
+	 */
+	private Iterable<T> scroll(QueryBuilder query, Sort sort) {
+		DynamicIndexAndTypeContext context = DynamicIndexAndTypeContextHolder.getInstance().current();
+		return new ScrollingIterable<>(() -> {
+			SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(query).withIndexAndTypeContext(context)
+					.build();
+			searchQuery.addSort(sort);
+			return elasticsearchOperations.stream(searchQuery, getEntityClass());
+		});
 	}
 
 	@Override
@@ -230,34 +225,24 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 	@Override
 	public void deleteById(ID id) {
 		Assert.notNull(id, "Cannot delete entity with id 'null'.");
-		elasticsearchOperations.delete(this.getIndexName(), this.getType(),
-				stringIdRepresentation(id));
-		elasticsearchOperations.refresh(this.getIndexName());
+		elasticsearchOperations.delete(this.getIndexName(), this.getType(), stringIdRepresentation(id),
+				getRefreshPolicy());
 	}
 
 	private String getType() {
-		String value = entityInformation.getType();
-		DynamicIndexAndTypeContextHolder instance = DynamicIndexAndTypeContextHolder.getInstance();
-		if(instance.isDynamicType(entityInformation.getJavaType())){
-			return instance.getType(value);
-		}
-		return value;
+		return DynamicIndexAndTypeContextHolder.getInstance().resolveType(entityInformation.getType(),
+				DynamicIndexAndTypeContextHolder.isDynamicTypeAnnotated(entityInformation.getJavaType()));
 	}
 
 	private String getIndexName() {
-		String value = entityInformation.getIndexName();
-		DynamicIndexAndTypeContextHolder instance = DynamicIndexAndTypeContextHolder.getInstance();
-		if(instance.isDynamicIndex(entityInformation.getJavaType())){
-			return instance.getIndex(value);
-		}
-		return value;
+		return DynamicIndexAndTypeContextHolder.getInstance().resolveIndex(entityInformation.getIndexName(),
+				DynamicIndexAndTypeContextHolder.isDynamicIndexAnnotated(entityInformation.getJavaType()));
 	}
 
 	@Override
 	public void delete(T entity) {
 		Assert.notNull(entity, "Cannot delete 'null' entity.");
 		deleteById(extractIdFromBean(entity));
-		elasticsearchOperations.refresh(this.getIndexName());
 	}
 
 	@Override
@@ -272,8 +257,8 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 	public void deleteAll() {
 		DeleteQuery deleteQuery = new DeleteQuery();
 		deleteQuery.setQuery(matchAllQuery());
+		deleteQuery.setRefreshPolicy(getRefreshPolicy());
 		elasticsearchOperations.delete(deleteQuery, getEntityClass());
-		elasticsearchOperations.refresh(this.getIndexName());
 	}
 
 	@Override
@@ -287,6 +272,7 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 		query.setId(stringIdRepresentation(extractIdFromBean(entity)));
 		query.setVersion(extractVersionFromBean(entity));
 		query.setParentId(extractParentIdFromBean(entity));
+		query.setRefreshPolicy(getRefreshPolicy());
 		return query;
 	}
 
@@ -329,6 +315,23 @@ public abstract class AbstractElasticsearchRepository<T, ID extends Serializable
 		this.entityClass = entityClass;
 	}
 
+	/**
+	 * Overrides the {@link org.springframework.data.elasticsearch.annotations.Document#refreshPolicy() refresh policy}
+	 * declared on the entity for all writes issued through this repository.
+	 *
+	 * @param refreshPolicy may be {@literal null} to fall back to the entity's refresh policy.
+	 */
+	public void setRefreshPolicy(RefreshPolicy refreshPolicy) {
+		this.refreshPolicy = refreshPolicy;
+	}
+
+	protected RefreshPolicy getRefreshPolicy() {
+		if (refreshPolicy != null) {
+			return refreshPolicy;
+		}
+		return elasticsearchOperations.getPersistentEntityFor(getEntityClass()).getRefreshPolicy();
+	}
+
 	public final void setElasticsearchOperations(ElasticsearchOperations elasticsearchOperations) {
 		Assert.notNull(elasticsearchOperations, "ElasticsearchOperations must not be null.");
 		this.elasticsearchOperations = elasticsearchOperations;
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import static org.elasticsearch.index.query.QueryBuilders.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.AsyncElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContextHolder;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.GetQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.SearchQuery;
+import org.springframework.data.elasticsearch.repository.ReactiveElasticsearchRepository;
+import org.springframework.data.elasticsearch.repository.query.ReactiveScrollUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Reactive Elasticsearch specific repository implementation. Likely to be used as target within
+ * {@link ReactiveElasticsearchRepositoryFactory}.
+ * <p>
+ * Single document operations are sent through {@link AsyncElasticsearchOperations} without blocking. Unbounded reads
+ * are backed by a scroll using the batch size of the template, the next page being requested only when downstream
+ * demand arrives. Operations without a non-blocking counterpart, such as scroll pages, delete by query and refresh,
+ * run on {@link Schedulers#elastic()} so they never block the subscribing thread. Writes apply the entity's
+ * {@link RefreshPolicy} unless overridden through {@link #setRefreshPolicy(RefreshPolicy)}.
+ * <p>
+ * The {@link DynamicIndexAndTypeContext} bound to the calling thread is captured when a publisher is created and
+ * applied on subscription, so dynamic index and type names resolve to the caller's tenant regardless of the thread the
+ * pipeline runs on.
+ */
+public abstract class AbstractReactiveElasticsearchRepository<T, ID extends Serializable>
+		implements ReactiveElasticsearchRepository<T, ID> {
+
+	static final Logger LOGGER = LoggerFactory.getLogger(AbstractReactiveElasticsearchRepository.class);
+	private static final DynamicIndexAndTypeContextHolder CONTEXT_HOLDER = DynamicIndexAndTypeContextHolder.getInstance();
+
+	protected final ElasticsearchOperations elasticsearchOperations;
+	protected final AsyncElasticsearchOperations asyncElasticsearchOperations;
+	protected final ElasticsearchEntityInformation<T, ID> entityInformation;
+	private RefreshPolicy refreshPolicy;
+
+	public AbstractReactiveElasticsearchRepository(ElasticsearchEntityInformation<T, ID> metadata,
+			ElasticsearchOperations elasticsearchOperations) {
+
+		Assert.notNull(metadata, "ElasticsearchEntityInformation must not be null!");
+		Assert.notNull(elasticsearchOperations, "ElasticsearchOperations must not be null!");
+		Assert.isInstanceOf(AsyncElasticsearchOperations.class, elasticsearchOperations,
+				"ElasticsearchOperations must implement AsyncElasticsearchOperations!");
+
+		this.entityInformation = metadata;
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.asyncElasticsearchOperations = (AsyncElasticsearchOperations) elasticsearchOperations;
+		try {
+			if (elasticsearchOperations.getPersistentEntityFor(getEntityClass()).isCreateIndexAndMapping()) {
+				elasticsearchOperations.createIndex(getEntityClass());
+				elasticsearchOperations.putMapping(getEntityClass());
+			}
+		} catch (ElasticsearchException exception) {
+			LOGGER.error("failed to load elasticsearch nodes : " + exception.getDetailedMessage());
+		}
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+		Assert.notNull(entity, "Cannot save 'null' entity.");
+		return Mono.defer(inCurrentContext(
+				() -> Mono.fromFuture(asyncElasticsearchOperations.indexAsync(createIndexQuery(entity)))))
+				.then(Mono.just(entity));
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+		Assert.notNull(entities, "Cannot insert 'null' as a List.");
+		return Mono.defer(inCurrentContext(() -> {
+			List<IndexQuery> queries = new ArrayList<>();
+			for (S s : entities) {
+				queries.add(createIndexQuery(s));
+			}
+			return queries.isEmpty() ? Mono.<Void> empty()
+					: Mono.fromFuture(asyncElasticsearchOperations.bulkIndexAsync(queries));
+		})).thenMany(Flux.fromIterable(entities));
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+		Assert.notNull(entityStream, "Cannot insert 'null' as a Publisher.");
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Flux.from(entityStream).concatMap(entity -> CONTEXT_HOLDER.withContext(context, () -> save(entity)));
+	}
+
+	@Override
+	public <S extends T> Mono<S> index(S entity) {
+		return save(entity);
+	}
+
+	@Override
+	public Mono<T> findById(ID id) {
+		Assert.notNull(id, "Cannot find entity with id 'null'.");
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Mono.defer(() -> {
+			GetQuery query = new GetQuery();
+			query.setId(stringIdRepresentation(id));
+			query.setIndexAndTypeContext(context);
+			return Mono.fromFuture(asyncElasticsearchOperations.queryForObjectAsync(query, getEntityClass()));
+		});
+	}
+
+	@Override
+	public Mono<T> findById(Publisher<ID> id) {
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Mono.from(id).flatMap(value -> CONTEXT_HOLDER.withContext(context, () -> findById(value)));
+	}
+
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+		Assert.notNull(id, "Cannot check existence of entity with id 'null'.");
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Mono.defer(() -> {
+			GetQuery query = new GetQuery();
+			query.setId(stringIdRepresentation(id));
+			query.setIndexAndTypeContext(context);
+			return Mono.fromFuture(asyncElasticsearchOperations.existsAsync(query, getEntityClass()));
+		});
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> id) {
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Mono.from(id).flatMap(value -> CONTEXT_HOLDER.withContext(context, () -> existsById(value)));
+	}
+
+	@Override
+	public Flux<T> findAll() {
+		return search(matchAllQuery());
+	}
+
+	@Override
+	public Flux<T> findAll(Sort sort) {
+		Assert.notNull(sort, "Sort must not be null!");
+		return scroll(matchAllQuery(), sort);
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+		Assert.notNull(ids, "ids can't be null.");
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Mono.defer(() -> {
+			List<String> stringIds = new ArrayList<>();
+			for (ID id : ids) {
+				stringIds.add(stringIdRepresentation(id));
+			}
+			if (stringIds.isEmpty()) {
+				return Mono.<List<T>> empty();
+			}
+			SearchQuery query = new NativeSearchQueryBuilder().withIds(stringIds).withIndexAndTypeContext(context).build();
+			return Mono.<List<T>> fromFuture(asyncElasticsearchOperations.multiGetAsync(query, getEntityClass()));
+		}).flatMapIterable(entities -> entities);
+	}
+
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Flux.from(idStream).collectList()
+				.flatMapMany(ids -> CONTEXT_HOLDER.withContext(context, () -> findAllById(ids)));
+	}
+
+	@Override
+	public Mono<Long> count() {
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Mono.defer(() -> {
+			SearchQuery query = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).withIndexAndTypeContext(context)
+					.build();
+			return Mono.fromFuture(asyncElasticsearchOperations.countAsync(query, getEntityClass()));
+		});
+	}
+
+	@Override
+	public Flux<T> search(QueryBuilder query) {
+		return scroll(query, Sort.unsorted());
+	}
+
+	private Flux<T> scroll(QueryBuilder query, Sort sort) {
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(query)
+				.withIndexAndTypeContext(CONTEXT_HOLDER.current()).build();
+		searchQuery.addSort(sort);
+		return ReactiveScrollUtils.fromScroll(() -> elasticsearchOperations.stream(searchQuery, getEntityClass()));
+	}
+
+	@Override
+	public Mono<Void> deleteById(ID id) {
+		Assert.notNull(id, "Cannot delete entity with id 'null'.");
+		return Mono.defer(inCurrentContext(() -> {
+			ElasticsearchPersistentEntity<?> persistentEntity = elasticsearchOperations
+					.getPersistentEntityFor(getEntityClass());
+			return Mono.fromFuture(asyncElasticsearchOperations.deleteAsync(persistentEntity.getIndexName(),
+					persistentEntity.getIndexType(), stringIdRepresentation(id), getRefreshPolicy()));
+		})).then();
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<ID> id) {
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Mono.from(id).flatMap(value -> CONTEXT_HOLDER.withContext(context, () -> deleteById(value)));
+	}
+
+	@Override
+	public Mono<Void> delete(T entity) {
+		Assert.notNull(entity, "Cannot delete 'null' entity.");
+		return deleteById(extractIdFromBean(entity));
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+		Assert.notNull(entities, "Cannot delete 'null' list.");
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Flux.fromIterable(entities).concatMap(entity -> CONTEXT_HOLDER.withContext(context, () -> delete(entity)))
+				.then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+		Assert.notNull(entityStream, "Cannot delete 'null' Publisher.");
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Flux.from(entityStream).concatMap(entity -> CONTEXT_HOLDER.withContext(context, () -> delete(entity)))
+				.then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return Mono.fromRunnable(() -> {
+			DeleteQuery deleteQuery = new DeleteQuery();
+			deleteQuery.setQuery(matchAllQuery());
+			deleteQuery.setRefreshPolicy(getRefreshPolicy());
+			deleteQuery.setIndexAndTypeContext(context);
+			elasticsearchOperations.delete(deleteQuery, getEntityClass());
+		}).subscribeOn(Schedulers.elastic()).then();
+	}
+
+	@Override
+	public Mono<Void> refresh() {
+		return Mono.defer(inCurrentContext(() -> {
+			elasticsearchOperations.refresh(getEntityClass());
+			return Mono.<Void> empty();
+		})).subscribeOn(Schedulers.elastic());
+	}
+
+	@Override
+	public Class<T> getEntityClass() {
+		return entityInformation.getJavaType();
+	}
+
+	/**
+	 * Overrides the {@link org.springframework.data.elasticsearch.annotations.Document#refreshPolicy() refresh policy}
+	 * declared on the entity for all writes issued through this repository.
+	 *
+	 * @param refreshPolicy may be {@literal null} to fall back to the entity's refresh policy.
+	 */
+	public void setRefreshPolicy(RefreshPolicy refreshPolicy) {
+		this.refreshPolicy = refreshPolicy;
+	}
+
+	protected RefreshPolicy getRefreshPolicy() {
+		if (refreshPolicy != null) {
+			return refreshPolicy;
+		}
+		return elasticsearchOperations.getPersistentEntityFor(getEntityClass()).getRefreshPolicy();
+	}
+
+	/**
+	 * Captures the {@link DynamicIndexAndTypeContext} of the calling thread and applies it whenever the returned
+	 * {@link Supplier} is evaluated, whichever thread that happens on.
+	 */
+	private static <R> Supplier<R> inCurrentContext(Supplier<R> supplier) {
+		DynamicIndexAndTypeContext context = CONTEXT_HOLDER.current();
+		return () -> CONTEXT_HOLDER.withContext(context, supplier);
+	}
+
+	private IndexQuery createIndexQuery(T entity) {
+		IndexQuery query = new IndexQuery();
+		query.setObject(entity);
+		query.setId(stringIdRepresentation(extractIdFromBean(entity)));
+		query.setVersion(entityInformation.getVersion(entity));
+		query.setParentId(entityInformation.getParentId(entity));
+		query.setRefreshPolicy(getRefreshPolicy());
+		query.setIndexAndTypeContext(CONTEXT_HOLDER.current());
+		return query;
+	}
+
+	protected ID extractIdFromBean(T entity) {
+		return entityInformation.getId(entity);
+	}
+
+	protected abstract String stringIdRepresentation(ID id);
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.elasticsearch.core.AsyncElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.repository.ReactiveElasticsearchRepository;
+import org.springframework.data.elasticsearch.repository.query.ReactiveElasticsearchPartQuery;
+import org.springframework.data.elasticsearch.repository.query.ReactiveElasticsearchQueryMethod;
+import org.springframework.data.elasticsearch.repository.query.ReactiveElasticsearchStringQuery;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.EvaluationContextProvider;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * Factory to create {@link ReactiveElasticsearchRepository} instances. The given {@link ElasticsearchOperations} must
+ * also implement {@link AsyncElasticsearchOperations}, as {@link org.springframework.data.elasticsearch.core.ElasticsearchTemplate}
+ * does.
+ */
+public class ReactiveElasticsearchRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final ElasticsearchEntityInformationCreator entityInformationCreator;
+
+	public ReactiveElasticsearchRepositoryFactory(ElasticsearchOperations elasticsearchOperations) {
+
+		Assert.notNull(elasticsearchOperations, "ElasticsearchOperations must not be null!");
+		Assert.isInstanceOf(AsyncElasticsearchOperations.class, elasticsearchOperations,
+				"ElasticsearchOperations must implement AsyncElasticsearchOperations!");
+
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.entityInformationCreator = new ElasticsearchEntityInformationCreatorImpl(
+				elasticsearchOperations.getElasticsearchConverter().getMappingContext());
+	}
+
+	@Override
+	public <T, ID> ElasticsearchEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+		return entityInformationCreator.getEntityInformation(domainClass);
+	}
+
+	@Override
+	protected Object getTargetRepository(RepositoryInformation metadata) {
+		return getTargetRepositoryViaReflection(metadata, getEntityInformation(metadata.getDomainType()),
+				elasticsearchOperations);
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		Class<?> idType = metadata.getIdType();
+		if (Integer.class.isAssignableFrom(idType) || Long.class.isAssignableFrom(idType)
+				|| Double.class.isAssignableFrom(idType) || idType == String.class || idType == UUID.class) {
+			return SimpleReactiveElasticsearchRepository.class;
+		}
+		throw new IllegalArgumentException("Unsupported ID type " + idType);
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
+			EvaluationContextProvider evaluationContextProvider) {
+		return Optional.of(new ReactiveElasticsearchQueryLookupStrategy());
+	}
+
+	private class ReactiveElasticsearchQueryLookupStrategy implements QueryLookupStrategy {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.QueryLookupStrategy#resolveQuery(java.lang.reflect.Method, org.springframework.data.repository.core.RepositoryMetadata, org.springframework.data.projection.ProjectionFactory, org.springframework.data.repository.core.NamedQueries)
+		 */
+		@Override
+		public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+				NamedQueries namedQueries) {
+
+			ReactiveElasticsearchQueryMethod queryMethod = new ReactiveElasticsearchQueryMethod(method, metadata, factory);
+			String namedQueryName = queryMethod.getNamedQueryName();
+
+			if (namedQueries.hasQuery(namedQueryName)) {
+				String namedQuery = namedQueries.getQuery(namedQueryName);
+				return new ReactiveElasticsearchStringQuery(queryMethod, elasticsearchOperations, namedQuery);
+			} else if (queryMethod.hasAnnotatedQuery()) {
+				return new ReactiveElasticsearchStringQuery(queryMethod, elasticsearchOperations,
+						queryMethod.getAnnotatedQuery());
+			}
+			return new ReactiveElasticsearchPartQuery(queryMethod, elasticsearchOperations);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Iterable} backed by a scroll. Nothing is fetched until an {@link #iterator()} is requested; every iterator
+ * opens a scroll of its own and pulls the next page only once the current one is consumed. The scroll of an iterator
+ * abandoned before its end is released when its keep alive expires, {@link #forEach(Consumer)} always releases it.
+ */
+class ScrollingIterable<T> implements Iterable<T> {
+
+	private final Supplier<CloseableIterator<T>> scroll;
+
+	/**
+	 * @param scroll opens a new scroll, must not be {@literal null}.
+	 */
+	ScrollingIterable(Supplier<CloseableIterator<T>> scroll) {
+
+		Assert.notNull(scroll, "Scroll must not be null!");
+
+		this.scroll = scroll;
+	}
+
+	/**
+	 * Opens a new scroll. Close the returned iterator when abandoning it before its end.
+	 */
+	@Override
+	public CloseableIterator<T> iterator() {
+		return scroll.get();
+	}
+
+	@Override
+	public void forEach(Consumer<? super T> action) {
+
+		Assert.notNull(action, "Action must not be null!");
+
+		try (CloseableIterator<T> iterator = scroll.get()) {
+			iterator.forEachRemaining(action);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import java.io.Serializable;
+
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+
+/**
+ * Reactive Elasticsearch repository implementation for {@link String}, {@link Number} and {@link java.util.UUID}
+ * keyed entities. Likely to be used as target within {@link ReactiveElasticsearchRepositoryFactory}.
+ */
+public class SimpleReactiveElasticsearchRepository<T, ID extends Serializable>
+		extends AbstractReactiveElasticsearchRepository<T, ID> {
+
+	public SimpleReactiveElasticsearchRepository(ElasticsearchEntityInformation<T, ID> metadata,
+			ElasticsearchOperations elasticsearchOperations) {
+		super(metadata, elasticsearchOperations);
+	}
+
+	@Override
+	protected String stringIdRepresentation(ID id) {
+		return String.valueOf(id);
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.apache.commons.lang.RandomStringUtils.*;
+import static org.elasticsearch.index.query.QueryBuilders.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.SearchQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQueryBuilder;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration("classpath:elasticsearch-template-test.xml")
+public class BufferedBulkWriterTests {
+
+	@Autowired
+	private ElasticsearchTemplate elasticsearchTemplate;
+
+	@Before
+	public void before() {
+		elasticsearchTemplate.deleteIndex(SampleEntity.class);
+		elasticsearchTemplate.createIndex(SampleEntity.class);
+		elasticsearchTemplate.putMapping(SampleEntity.class);
+		elasticsearchTemplate.refresh(SampleEntity.class);
+	}
+
+	@Test
+	public void shouldFlushBufferedActionsOnClose() throws InterruptedException {
+		// given
+		// bulks are sent one after the other, so the delete cannot overtake the index of the same document
+		BulkOptions options = new BulkOptionsBuilder().withBulkActions(10).withConcurrentRequests(0)
+				.withRefreshPolicy(RefreshPolicy.IMMEDIATE).build();
+		RecordingBulkFailureListener failureListener = new RecordingBulkFailureListener();
+		BufferedBulkWriter writer = elasticsearchTemplate.bufferedBulkWriter(options, failureListener);
+
+		// when
+		for (int i = 0; i < 25; i++) {
+			SampleEntity sampleEntity = SampleEntity.builder().id(String.valueOf(i)).message("message " + i)
+					.version(System.currentTimeMillis()).build();
+			writer.index(new IndexQueryBuilder().withId(sampleEntity.getId()).withObject(sampleEntity).build());
+		}
+		writer.delete(SampleEntity.class, "0");
+		assertThat(writer.awaitClose(10, TimeUnit.SECONDS), is(true));
+
+		// then
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).build();
+		assertThat(elasticsearchTemplate.count(searchQuery, SampleEntity.class), is(24L));
+		assertThat(failureListener.itemFailures, is(empty()));
+		assertThat(failureListener.bulkFailures, is(empty()));
+	}
+
+	@Test
+	public void shouldReportFailedItemsWithoutFailingTheBulk() throws InterruptedException {
+		// given
+		String documentId = randomNumeric(5);
+		SampleEntity sampleEntity = SampleEntity.builder().id(documentId).message("some message")
+				.version(System.currentTimeMillis()).build();
+		RecordingBulkFailureListener failureListener = new RecordingBulkFailureListener();
+		BufferedBulkWriter writer = elasticsearchTemplate
+				.bufferedBulkWriter(new BulkOptionsBuilder().withRefreshPolicy(RefreshPolicy.IMMEDIATE).build(), failureListener);
+
+		// when
+		writer.index(new IndexQueryBuilder().withId(documentId).withObject(sampleEntity).build());
+		IndexRequest indexRequest = new IndexRequest();
+		indexRequest.source("message", "updated message");
+		writer.update(new UpdateQueryBuilder().withId("missing-" + documentId).withClass(SampleEntity.class)
+				.withIndexRequest(indexRequest).build());
+		assertThat(writer.awaitClose(10, TimeUnit.SECONDS), is(true));
+
+		// then
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).build();
+		assertThat(elasticsearchTemplate.count(searchQuery, SampleEntity.class), is(1L));
+		assertThat(failureListener.itemFailures.size(), is(1));
+		assertThat(failureListener.itemFailures.get(0).getId(), is("missing-" + documentId));
+		assertThat(failureListener.bulkFailures, is(empty()));
+	}
+
+	private static class RecordingBulkFailureListener implements BulkFailureListener {
+
+		private final List<BulkItemResponse.Failure> itemFailures = new CopyOnWriteArrayList<>();
+		private final List<Throwable> bulkFailures = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void onItemFailure(BulkItemResponse.Failure failure) {
+			itemFailures.add(failure);
+		}
+
+		@Override
+		public void onBulkFailure(BulkRequest request, Throwable failure) {
+			bulkFailures.add(failure);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.query.SearchAfterPageRequest;
+
+public class CursorPageImplTests {
+
+	private static final Sort SORT = Sort.by("rate");
+
+	@Test
+	public void shouldKeepCursorWhenMappingContent() {
+		// given
+		CursorPage<Integer> page = new CursorPageImpl<>(Arrays.asList(1, 2), SearchAfterPageRequest.first(2, SORT), true,
+				new Object[] { 2 });
+
+		// when
+		CursorPage<String> mapped = page.map(String::valueOf);
+
+		// then
+		assertThat(mapped.getContent(), contains("1", "2"));
+		assertThat(mapped.getSearchAfter(), is(new Object[] { 2 }));
+		assertThat(mapped.nextPageable(), is(SearchAfterPageRequest.of(1, 2, SORT, new Object[] { 2 })));
+	}
+
+	@Test
+	public void shouldPointToFirstPageAsPreviousOfDeeperPages() {
+		// given
+		CursorPage<Integer> page = new CursorPageImpl<>(Arrays.asList(5, 6), SearchAfterPageRequest.of(2, 2, SORT,
+				new Object[] { 4 }), true, new Object[] { 6 });
+
+		// then
+		assertThat(page.previousPageable(), is(SearchAfterPageRequest.first(2, SORT)));
+		assertThat(page.map(String::valueOf).previousPageable(), is(SearchAfterPageRequest.first(2, SORT)));
+	}
+
+	@Test
+	public void shouldHaveNoPreviousPageOnFirstPage() {
+		// given
+		CursorPage<Integer> page = new CursorPageImpl<>(Arrays.asList(1, 2), SearchAfterPageRequest.first(2, SORT), true,
+				new Object[] { 2 });
+
+		// then
+		assertThat(page.previousPageable(), is(Pageable.unpaged()));
+	}
+}
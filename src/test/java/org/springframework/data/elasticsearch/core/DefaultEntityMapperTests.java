@@ -19,11 +19,17 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
+import org.elasticsearch.common.bytes.BytesArray;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.elasticsearch.entities.Author;
+import org.springframework.data.elasticsearch.entities.Book;
 import org.springframework.data.elasticsearch.entities.Car;
 import org.springframework.data.elasticsearch.entities.GeoEntity;
 import org.springframework.data.geo.Point;
@@ -67,6 +73,95 @@ public class DefaultEntityMapperTests {
 		assertThat(result.getModel(), is(CAR_MODEL));
 	}
 
+	@Test
+	public void shouldMapObjectToJsonBytes() throws IOException {
+		//When
+		String jsonResult = entityMapper.mapToBytes(Car.builder().model(CAR_MODEL).name(CAR_NAME).build()).utf8ToString();
+
+		//Then
+		assertThat(jsonResult, is(JSON_STRING));
+	}
+
+	@Test
+	public void shouldNotLeakPreviousDocumentIntoReusedBuffer() throws IOException {
+		//Given
+		StringBuilder longName = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			longName.append('x');
+		}
+		entityMapper.mapToBytes(Car.builder().model(CAR_MODEL).name(longName.toString()).build());
+
+		//When
+		String jsonResult = entityMapper.mapToBytes(Car.builder().model(CAR_MODEL).name(CAR_NAME).build()).utf8ToString();
+
+		//Then
+		assertThat(jsonResult, is(JSON_STRING));
+	}
+
+	@Test
+	public void shouldMapWithAfterburnerRegistered() throws IOException {
+		//Given
+		DefaultEntityMapper afterburnerEntityMapper = new DefaultEntityMapper(true);
+
+		//When
+		String jsonResult = afterburnerEntityMapper.mapToBytes(Car.builder().model(CAR_MODEL).name(CAR_NAME).build())
+				.utf8ToString();
+		Car result = afterburnerEntityMapper.mapToObject(jsonResult, Car.class);
+
+		//Then
+		assertThat(jsonResult, is(JSON_STRING));
+		assertThat(result.getName(), is(CAR_NAME));
+		assertThat(result.getModel(), is(CAR_MODEL));
+	}
+
+	@Test
+	public void shouldMapJsonBytesSliceToObject() throws IOException {
+		//Given
+		byte[] json = ("xx" + JSON_STRING + "yy").getBytes(StandardCharsets.UTF_8);
+
+		//When
+		Car result = entityMapper.mapToObject(new BytesArray(json, 2, json.length - 4), Car.class);
+
+		//Then
+		assertThat(result.getName(), is(CAR_NAME));
+		assertThat(result.getModel(), is(CAR_MODEL));
+	}
+
+	@Test
+	public void shouldReuseMapperForDifferentEntityClasses() throws IOException {
+		//Given
+		Author author = new Author();
+		author.setName("some author");
+		Book book = Book.builder().id("1").name("some book").author(author).build();
+
+		//When
+		Car car = entityMapper.mapToObject(entityMapper.mapToBytes(Car.builder().model(CAR_MODEL).name(CAR_NAME).build()),
+				Car.class);
+		Book result = entityMapper.mapToObject(entityMapper.mapToBytes(book), Book.class);
+		Car secondCar = entityMapper.mapToObject(JSON_STRING, Car.class);
+
+		//Then
+		assertThat(car.getName(), is(CAR_NAME));
+		assertThat(result.getName(), is("some book"));
+		assertThat(result.getAuthor().getName(), is("some author"));
+		assertThat(secondCar.getModel(), is(CAR_MODEL));
+	}
+
+	@Test
+	public void shouldMapFieldValuesToObject() throws IOException {
+		//Given
+		Map<String, Object> values = new HashMap<>();
+		values.put("name", CAR_NAME);
+		values.put("model", CAR_MODEL);
+
+		//When
+		Car result = entityMapper.mapToObject(values, Car.class);
+
+		//Then
+		assertThat(result.getName(), is(CAR_NAME));
+		assertThat(result.getModel(), is(CAR_MODEL));
+	}
+
 	@Test
 	public void shouldMapGeoPointElasticsearchNames() throws IOException {
 		//given
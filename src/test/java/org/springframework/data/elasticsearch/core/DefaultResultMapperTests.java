@@ -19,18 +19,25 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import com.fasterxml.jackson.databind.util.ArrayIterator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.get.MultiGetItemResponse;
+import org.elasticsearch.action.get.MultiGetResponse;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.index.get.GetResult;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHitField;
 import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.Aggregation;
 import org.elasticsearch.search.aggregations.Aggregations;
 import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -41,6 +48,8 @@ import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.core.aggregation.AggregatedPage;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
 import org.springframework.data.elasticsearch.entities.Car;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.*;
@@ -65,6 +74,11 @@ public class DefaultResultMapperTests {
 		resultMapper = new DefaultResultMapper(new SimpleElasticsearchMappingContext());
 	}
 
+	@After
+	public void destroy() {
+		resultMapper.destroy();
+	}
+
 	@Test
 	public void shouldMapAggregationsToPage() {
 		//Given
@@ -122,11 +136,112 @@ public class DefaultResultMapperTests {
 		assertThat(page.getContent().get(0).getName(), is("Ford"));
 	}
 
+	@Test
+	public void shouldMapLargePagesInParallelKeepingHitOrder() {
+		//Given
+		resultMapper.setParallelMapping(4, 2);
+		SearchHit[] hits = new SearchHit[50];
+		for (int i = 0; i < hits.length; i++) {
+			hits[i] = createCarHit("name-" + i, "model-" + i);
+		}
+		SearchHits searchHits = mock(SearchHits.class);
+		when(searchHits.totalHits()).thenReturn((long) hits.length);
+		when(searchHits.getHits()).thenReturn(hits);
+		when(response.getHits()).thenReturn(searchHits);
+
+		//When
+		Page<Car> page = resultMapper.mapResults(response, Car.class, Pageable.unpaged());
+
+		//Then
+		assertThat(page.getContent().size(), is(hits.length));
+		for (int i = 0; i < hits.length; i++) {
+			assertThat(page.getContent().get(i).getName(), is("name-" + i));
+		}
+	}
+
+	@Test
+	public void shouldShutDownOwnedMappingPool() {
+		//Given
+		resultMapper.setParallelMapping(4, 2);
+		ForkJoinPool replacedPool = (ForkJoinPool) ReflectionTestUtils.getField(resultMapper, "mappingPool");
+		resultMapper.setParallelMapping(4, 2);
+		ForkJoinPool ownedPool = (ForkJoinPool) ReflectionTestUtils.getField(resultMapper, "mappingPool");
+
+		//When
+		resultMapper.destroy();
+
+		//Then
+		assertThat(replacedPool.isShutdown(), is(true));
+		assertThat(ownedPool.isShutdown(), is(true));
+	}
+
+	@Test
+	public void shouldNotShutDownProvidedMappingPool() {
+		//Given
+		ForkJoinPool pool = new ForkJoinPool(2);
+		resultMapper.setParallelMapping(4, pool);
+
+		//When
+		resultMapper.destroy();
+
+		//Then
+		try {
+			assertThat(pool.isShutdown(), is(false));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void shouldMapHitsOnlyWhenContentIsAccessed() {
+		//Given
+		resultMapper.setLazyMapping(true);
+		SearchHit hit = createCarHit("Ford", "Grat");
+		SearchHits searchHits = mock(SearchHits.class);
+		when(searchHits.totalHits()).thenReturn(1L);
+		when(searchHits.getHits()).thenReturn(new SearchHit[] { hit });
+		when(response.getHits()).thenReturn(searchHits);
+		Aggregations aggregations = new Aggregations(asList(createCarAggregation()));
+		when(response.getAggregations()).thenReturn(aggregations);
+
+		//When
+		AggregatedPage<Car> page = resultMapper.mapResults(response, Car.class, Pageable.unpaged());
+
+		//Then
+		assertThat(page.getTotalElements(), is(1L));
+		assertThat(page.getAggregation("Diesel").getName(), is("Diesel"));
+		verify(hit, never()).getSourceRef();
+		assertThat(page.getContent().get(0).getName(), is("Ford"));
+		assertThat(page.getContent().get(0), is(sameInstance(page.iterator().next())));
+		verify(hit, times(1)).getSourceRef();
+	}
+
+	@Test
+	public void shouldPopulateScriptedFields() {
+		//Given
+		SearchHit hit = mock(SearchHit.class);
+		when(hit.getSourceRef()).thenReturn(new BytesArray("{\"message\":\"some message\"}"));
+		when(hit.getId()).thenReturn("1");
+		when(hit.getFields()).thenReturn(Collections.singletonMap("scriptedRate",
+				new SearchHitField("scriptedRate", asList((Object) 2.5))));
+		SearchHits searchHits = mock(SearchHits.class);
+		when(searchHits.totalHits()).thenReturn(1L);
+		when(searchHits.iterator()).thenReturn(new ArrayIterator(new SearchHit[] { hit }));
+		when(response.getHits()).thenReturn(searchHits);
+
+		//When
+		Page<SampleEntity> page = resultMapper.mapResults(response, SampleEntity.class, Pageable.unpaged());
+
+		//Then
+		assertThat(page.getContent().get(0).getMessage(), is("some message"));
+		assertThat(page.getContent().get(0).getScriptedRate(), is(2.5));
+	}
+
 	@Test
 	public void shouldMapGetRequestToObject() {
 		//Given
 		GetResponse response = mock(GetResponse.class);
-		when(response.getSourceAsString()).thenReturn(createJsonCar("Ford", "Grat"));
+		when(response.getSourceAsBytesRef()).thenReturn(new BytesArray(createJsonCar("Ford", "Grat")));
 
 		//When
 		Car result = resultMapper.mapResult(response, Car.class);
@@ -137,6 +252,28 @@ public class DefaultResultMapperTests {
 		assertThat(result.getName(), is("Ford"));
 	}
 
+	@Test
+	public void shouldMapMultiGetResponseInRequestOrder() {
+		//Given
+		MultiGetResponse response = new MultiGetResponse(new MultiGetItemResponse[] {
+				createCarItem("1", createJsonCar("Ford", "Grat")),
+				createCarItem("2", null),
+				new MultiGetItemResponse(null,
+						new MultiGetResponse.Failure("test-index", "test-type", "3", new RuntimeException("failed"))),
+				createCarItem("4", createJsonCar("Audi", "A4")) });
+
+		//When
+		List<Car> cars = resultMapper.mapResultsInOrder(response, Car.class);
+
+		//Then
+		assertThat(cars.size(), is(4));
+		assertThat(cars.get(0).getName(), is("Ford"));
+		assertThat(cars.get(1), is(nullValue()));
+		assertThat(cars.get(2), is(nullValue()));
+		assertThat(cars.get(3).getName(), is("Audi"));
+		assertThat(resultMapper.mapResults(response, Car.class).size(), is(2));
+	}
+
 	/**
 	 * @see DATAES-281.
 	 */
@@ -144,7 +281,7 @@ public class DefaultResultMapperTests {
 	public void setsIdentifierOnImmutableType() {
 
 		GetResponse response = mock(GetResponse.class);
-		when(response.getSourceAsString()).thenReturn("{}");
+		when(response.getSourceAsBytesRef()).thenReturn(new BytesArray("{}"));
 		when(response.getId()).thenReturn("identifier");
 
 		ImmutableEntity result = resultMapper.mapResult(response, ImmutableEntity.class);
@@ -161,17 +298,22 @@ public class DefaultResultMapperTests {
 
 	private SearchHit createCarHit(String name, String model) {
 		SearchHit hit = mock(SearchHit.class);
-		when(hit.sourceAsString()).thenReturn(createJsonCar(name, model));
+		when(hit.getSourceRef()).thenReturn(new BytesArray(createJsonCar(name, model)));
 		return hit;
 	}
 
 	private SearchHit createCarPartialHit(String name, String model) {
 		SearchHit hit = mock(SearchHit.class);
-		when(hit.sourceAsString()).thenReturn(null);
 		when(hit.getFields()).thenReturn(createCarFields(name, model));
 		return hit;
 	}
 
+	private MultiGetItemResponse createCarItem(String id, String json) {
+		GetResult result = new GetResult("test-index", "test-type", id, 1L, json != null,
+				json != null ? new BytesArray(json) : null, null);
+		return new MultiGetItemResponse(new GetResponse(result), null);
+	}
+
 	private String createJsonCar(String name, String model) {
 		final String q = "\"";
 		StringBuffer sb = new StringBuffer();
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContext;
+import org.springframework.data.elasticsearch.core.mapping.DynamicIndexAndTypeContextHolder;
+import org.springframework.data.elasticsearch.core.query.GetQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.MultiGetItem;
+import org.springframework.data.elasticsearch.entities.DynamicIndexAndType;
+import org.springframework.data.elasticsearch.entities.DynamicIndexWithSettings;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration("classpath:elasticsearch-template-test.xml")
+public class DynamicIndexProvisioningTests {
+
+	private static final String TENANT_INDEX = "test-dynamic-provisioned";
+	private static final String OTHER_TENANT_INDEX = "test-dynamic-provisioned-other";
+	private static final String SETTINGS_TENANT_INDEX = "test-dynamic-settings-provisioned";
+	private static final String SETTINGS_BASE_INDEX = "test-dynamic-settings";
+
+	@Autowired
+	private ElasticsearchTemplate elasticsearchTemplate;
+
+	@Before
+	public void before() {
+		elasticsearchTemplate.deleteIndex(TENANT_INDEX);
+		elasticsearchTemplate.deleteIndex(OTHER_TENANT_INDEX);
+		elasticsearchTemplate.deleteIndex(SETTINGS_TENANT_INDEX);
+		elasticsearchTemplate.deleteIndex(SETTINGS_BASE_INDEX);
+		elasticsearchTemplate.setDynamicIndexProvisioning(true);
+		DynamicIndexAndTypeContextHolder.getInstance().setIndexAndType("provisioned", null);
+	}
+
+	@After
+	public void after() {
+		DynamicIndexAndTypeContextHolder.getInstance().clean();
+		elasticsearchTemplate.setDynamicIndexProvisioning(false);
+		elasticsearchTemplate.deleteIndex(TENANT_INDEX);
+		elasticsearchTemplate.deleteIndex(OTHER_TENANT_INDEX);
+		elasticsearchTemplate.deleteIndex(SETTINGS_TENANT_INDEX);
+		elasticsearchTemplate.deleteIndex(SETTINGS_BASE_INDEX);
+	}
+
+	@Test
+	public void shouldCreateTenantIndexWithEntitySettingsOnFirstWrite() {
+		// when
+		elasticsearchTemplate.index(new IndexQueryBuilder().withObject(new DynamicIndexWithSettings("1", "first")).build());
+		elasticsearchTemplate.index(new IndexQueryBuilder().withObject(new DynamicIndexWithSettings("2", "second")).build());
+		elasticsearchTemplate.refresh(SETTINGS_TENANT_INDEX);
+
+		// then
+		assertThat(elasticsearchTemplate.indexExists(SETTINGS_TENANT_INDEX), is(true));
+		Map settings = elasticsearchTemplate.getSetting(SETTINGS_TENANT_INDEX);
+		assertThat((String) settings.get("index.number_of_shards"), is("1"));
+		assertThat((String) settings.get("index.number_of_replicas"), is("0"));
+		Map properties = (Map) elasticsearchTemplate.getMapping(SETTINGS_TENANT_INDEX, "test-type-dynamic-settings")
+				.get("properties");
+		assertThat((String) ((Map) properties.get("name")).get("type"), is("keyword"));
+	}
+
+	@Test
+	public void shouldProvisionTenantIndexOnFirstAsynchronousWrite() {
+		// when
+		elasticsearchTemplate
+				.indexAsync(new IndexQueryBuilder().withObject(new DynamicIndexWithSettings("1", "first")).build()).join();
+
+		// then
+		Map settings = elasticsearchTemplate.getSetting(SETTINGS_TENANT_INDEX);
+		assertThat((String) settings.get("index.number_of_shards"), is("1"));
+		Map properties = (Map) elasticsearchTemplate.getMapping(SETTINGS_TENANT_INDEX, "test-type-dynamic-settings")
+				.get("properties");
+		assertThat((String) ((Map) properties.get("name")).get("type"), is("keyword"));
+		assertThat(countDocuments(SETTINGS_TENANT_INDEX), is(1L));
+		assertThat(elasticsearchTemplate.indexExists(SETTINGS_BASE_INDEX), is(false));
+	}
+
+	@Test
+	public void shouldBulkIndexIntoTenantIndexOnFirstAsynchronousWrite() {
+		// when
+		elasticsearchTemplate.bulkIndexAsync(Arrays.asList(
+				new IndexQueryBuilder().withObject(new DynamicIndexWithSettings("1", "first")).build(),
+				new IndexQueryBuilder().withObject(new DynamicIndexWithSettings("2", "second")).build())).join();
+
+		// then
+		assertThat(countDocuments(SETTINGS_TENANT_INDEX), is(2L));
+		assertThat(elasticsearchTemplate.indexExists(SETTINGS_BASE_INDEX), is(false));
+	}
+
+	@Test
+	public void shouldResolveTenantIndexFromContextPassedWithQuery() {
+		// given
+		DynamicIndexAndTypeContextHolder.getInstance().clean();
+		DynamicIndexAndTypeContext context = DynamicIndexAndTypeContext.of("provisioned", null);
+
+		// when
+		elasticsearchTemplate.index(new IndexQueryBuilder().withObject(new DynamicIndexAndType(1L, "first"))
+				.withIndexAndTypeContext(context).build());
+		GetQuery getQuery = new GetQuery();
+		getQuery.setId("1");
+		getQuery.setIndexAndTypeContext(context);
+
+		// then
+		assertThat(elasticsearchTemplate.indexExists(TENANT_INDEX), is(true));
+		assertThat(elasticsearchTemplate.queryForObject(getQuery, DynamicIndexAndType.class).getName(), is("first"));
+		assertThat(DynamicIndexAndTypeContextHolder.getInstance().current(), is(nullValue()));
+	}
+
+	@Test
+	public void shouldGetDocumentsOfSeveralTenantsInSingleMultiGet() {
+		// given
+		DynamicIndexAndTypeContextHolder.getInstance().clean();
+		DynamicIndexAndTypeContext tenant = DynamicIndexAndTypeContext.of("provisioned", null);
+		DynamicIndexAndTypeContext otherTenant = DynamicIndexAndTypeContext.of("provisioned-other", null);
+		elasticsearchTemplate.index(new IndexQueryBuilder().withObject(new DynamicIndexAndType(1L, "first"))
+				.withIndexAndTypeContext(tenant).build());
+		elasticsearchTemplate.index(new IndexQueryBuilder().withObject(new DynamicIndexAndType(1L, "other"))
+				.withIndexAndTypeContext(otherTenant).build());
+		elasticsearchTemplate.refresh(TENANT_INDEX);
+		elasticsearchTemplate.refresh(OTHER_TENANT_INDEX);
+
+		// when
+		List<DynamicIndexAndType> result = elasticsearchTemplate.multiGetInOrder(Arrays.asList(
+				MultiGetItem.of(otherTenant, "1"), MultiGetItem.of(tenant, "2"), MultiGetItem.of(tenant, "1")),
+				DynamicIndexAndType.class);
+
+		// then
+		assertThat(result.size(), is(3));
+		assertThat(result.get(0).getName(), is("other"));
+		assertThat(result.get(1), is(nullValue()));
+		assertThat(result.get(2).getName(), is("first"));
+	}
+
+	private long countDocuments(String indexName) {
+		elasticsearchTemplate.refresh(indexName);
+		return elasticsearchTemplate.getClient().prepareSearch(indexName).setSize(0).get().getHits().getTotalHits();
+	}
+}
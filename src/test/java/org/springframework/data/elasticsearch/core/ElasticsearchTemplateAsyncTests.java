@@ -0,0 +1,252 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.apache.commons.lang.RandomStringUtils.*;
+import static org.elasticsearch.index.query.QueryBuilders.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.get.MultiGetAction;
+import org.elasticsearch.action.get.MultiGetResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.search.SearchAction;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.update.UpdateResponse;
+import org.elasticsearch.client.Client;
+import org.elasticsearch.common.unit.TimeValue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.core.aggregation.AggregatedPage;
+import org.springframework.data.elasticsearch.core.query.GetQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.SearchQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQueryBuilder;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration("classpath:elasticsearch-template-test.xml")
+public class ElasticsearchTemplateAsyncTests {
+
+	@Autowired
+	private ElasticsearchTemplate elasticsearchTemplate;
+
+	@Before
+	public void before() {
+		elasticsearchTemplate.deleteIndex(SampleEntity.class);
+		elasticsearchTemplate.createIndex(SampleEntity.class);
+		elasticsearchTemplate.putMapping(SampleEntity.class);
+		elasticsearchTemplate.refresh(SampleEntity.class);
+	}
+
+	@Test
+	public void shouldIndexAndGetObjectAsynchronously() {
+		// given
+		String documentId = randomNumeric(5);
+		SampleEntity sampleEntity = SampleEntity.builder().id(documentId).message("some message")
+				.version(System.currentTimeMillis()).build();
+
+		// when
+		String indexedId = elasticsearchTemplate.indexAsync(getIndexQuery(sampleEntity)).join();
+		GetQuery getQuery = new GetQuery();
+		getQuery.setId(documentId);
+		SampleEntity result = elasticsearchTemplate.queryForObjectAsync(getQuery, SampleEntity.class).join();
+
+		// then
+		assertThat(indexedId, is(documentId));
+		assertEquals(sampleEntity, result);
+	}
+
+	@Test
+	public void shouldBulkIndexAndQueryAsynchronously() {
+		// given
+		SampleEntity sampleEntity1 = SampleEntity.builder().id(randomNumeric(5)).message("some message")
+				.version(System.currentTimeMillis()).build();
+		SampleEntity sampleEntity2 = SampleEntity.builder().id(randomNumeric(5)).message("some message")
+				.version(System.currentTimeMillis()).build();
+
+		// when
+		elasticsearchTemplate.bulkIndexAsync(Arrays.asList(getIndexQuery(sampleEntity1), getIndexQuery(sampleEntity2)))
+				.join();
+		elasticsearchTemplate.refresh(SampleEntity.class);
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).build();
+
+		// then
+		assertThat(elasticsearchTemplate.countAsync(searchQuery, SampleEntity.class).join(), is(2L));
+		AggregatedPage<SampleEntity> page = elasticsearchTemplate.queryForPageAsync(searchQuery, SampleEntity.class)
+				.join();
+		assertThat(page.getTotalElements(), is(2L));
+		List<SampleEntity> entities = elasticsearchTemplate.multiGetAsync(
+				new NativeSearchQueryBuilder().withIds(Arrays.asList(sampleEntity1.getId(), sampleEntity2.getId())).build(),
+				SampleEntity.class).join();
+		assertThat(entities.size(), is(2));
+	}
+
+	@Test
+	public void shouldUpdateObjectAsynchronously() {
+		// given
+		String documentId = randomNumeric(5);
+		SampleEntity sampleEntity = SampleEntity.builder().id(documentId).message("some message")
+				.version(System.currentTimeMillis()).build();
+		elasticsearchTemplate.index(getIndexQuery(sampleEntity));
+		IndexRequest indexRequest = new IndexRequest();
+		indexRequest.source("message", "updated message");
+		UpdateQuery updateQuery = new UpdateQueryBuilder().withId(documentId).withClass(SampleEntity.class)
+				.withIndexRequest(indexRequest).build();
+
+		// when
+		UpdateResponse response = elasticsearchTemplate.updateAsync(updateQuery).join();
+
+		// then
+		assertThat(response.getId(), is(documentId));
+		GetQuery getQuery = new GetQuery();
+		getQuery.setId(documentId);
+		SampleEntity result = elasticsearchTemplate.queryForObject(getQuery, SampleEntity.class);
+		assertThat(result.getMessage(), is("updated message"));
+	}
+
+	@Test
+	public void shouldSendSearchTimeoutWithAsynchronousSearches() {
+		// given
+		Client client = spy(elasticsearchTemplate.getClient());
+		ElasticsearchTemplate template = new ElasticsearchTemplate(client);
+		template.setSearchTimeout("5s");
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).build();
+
+		// when
+		template.queryForPageAsync(searchQuery, SampleEntity.class).join();
+		template.countAsync(searchQuery, SampleEntity.class).join();
+
+		// then
+		ArgumentCaptor<SearchRequest> requests = ArgumentCaptor.forClass(SearchRequest.class);
+		verify(client, times(2)).execute(eq(SearchAction.INSTANCE), requests.capture(), Mockito.any());
+		for (SearchRequest request : requests.getAllValues()) {
+			assertThat(request.source().timeout(), is(TimeValue.timeValueSeconds(5)));
+		}
+	}
+
+	@Test
+	public void shouldDeleteObjectAsynchronously() {
+		// given
+		String documentId = randomNumeric(5);
+		SampleEntity sampleEntity = SampleEntity.builder().id(documentId).message("some message")
+				.version(System.currentTimeMillis()).build();
+		elasticsearchTemplate.index(getIndexQuery(sampleEntity));
+
+		// when
+		String deletedId = elasticsearchTemplate.deleteAsync(SampleEntity.class, documentId).join();
+		elasticsearchTemplate.refresh(SampleEntity.class);
+
+		// then
+		assertThat(deletedId, is(documentId));
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).build();
+		assertThat(elasticsearchTemplate.count(searchQuery, SampleEntity.class), is(0L));
+	}
+
+	@Test
+	public void shouldCompleteOnMappingExecutor() {
+		// given
+		ElasticsearchTemplate template = new ElasticsearchTemplate(elasticsearchTemplate.getClient());
+		AtomicInteger mappings = new AtomicInteger();
+		template.setMappingExecutor(command -> {
+			mappings.incrementAndGet();
+			command.run();
+		});
+		String documentId = randomNumeric(5);
+		template.index(getIndexQuery(SampleEntity.builder().id(documentId).message("some message")
+				.version(System.currentTimeMillis()).build()));
+		GetQuery getQuery = new GetQuery();
+		getQuery.setId(documentId);
+		IndexRequest indexRequest = new IndexRequest();
+		indexRequest.source("message", "updated message");
+		UpdateQuery updateQuery = new UpdateQueryBuilder().withId(documentId).withClass(SampleEntity.class)
+				.withIndexRequest(indexRequest).build();
+
+		// when
+		template.existsAsync(getQuery, SampleEntity.class).join();
+		template.updateAsync(updateQuery).join();
+		template.deleteAsync(SampleEntity.class, documentId).join();
+
+		// then
+		assertThat(mappings.get(), is(3));
+	}
+
+	@Test
+	public void shouldBoundMultiGetChunksInFlight() {
+		// given
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			String documentId = randomNumeric(5) + "-" + i;
+			elasticsearchTemplate.index(getIndexQuery(SampleEntity.builder().id(documentId).message("message " + i)
+					.version(System.currentTimeMillis()).build()));
+			ids.add(documentId);
+		}
+		elasticsearchTemplate.refresh(SampleEntity.class);
+		Client client = spy(elasticsearchTemplate.getClient());
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		doAnswer(invocation -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			ActionListener<MultiGetResponse> listener = invocation.getArgument(2);
+			elasticsearchTemplate.getClient().execute(MultiGetAction.INSTANCE, invocation.getArgument(1),
+					ActionListener.wrap(response -> {
+						inFlight.decrementAndGet();
+						listener.onResponse(response);
+					}, e -> {
+						inFlight.decrementAndGet();
+						listener.onFailure(e);
+					}));
+			return null;
+		}).when(client).execute(eq(MultiGetAction.INSTANCE), Mockito.any(), Mockito.any());
+		ElasticsearchTemplate template = new ElasticsearchTemplate(client);
+		template.setMultiGetChunkSize(1);
+		template.setMaxConcurrentMultiGetChunks(2);
+		SearchQuery query = new NativeSearchQueryBuilder().withIds(ids).build();
+
+		// when
+		List<SampleEntity> entities = template.multiGetInOrder(query, SampleEntity.class);
+		List<SampleEntity> asyncEntities = template.multiGetInOrderAsync(query, SampleEntity.class).join();
+
+		// then
+		verify(client, times(10)).execute(eq(MultiGetAction.INSTANCE), Mockito.any(), Mockito.any());
+		assertThat(maxInFlight.get(), is(lessThanOrEqualTo(2)));
+		assertThat(entities.size(), is(5));
+		for (int i = 0; i < 5; i++) {
+			assertThat(entities.get(i).getId(), is(ids.get(i)));
+		}
+		assertThat(asyncEntities, is(equalTo(entities)));
+	}
+
+	private IndexQuery getIndexQuery(SampleEntity sampleEntity) {
+		return new IndexQueryBuilder().withId(sampleEntity.getId()).withObject(sampleEntity).build();
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.elasticsearch.action.ActionFuture;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkAction;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexAction;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.index.IndexRequestBuilder;
+import org.elasticsearch.client.Client;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.elasticsearch.ElasticsearchException;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+
+public class ElasticsearchTemplateBulkRetryTests {
+
+	private static final BulkRetryOptions RETRY_OPTIONS = new BulkRetryOptions(
+			BackoffPolicy.constantBackoff(TimeValue.timeValueMillis(1), 2));
+
+	@Mock
+	private Client client;
+
+	private ElasticsearchTemplate elasticsearchTemplate;
+
+	@Before
+	public void init() {
+		MockitoAnnotations.initMocks(this);
+		when(client.prepareBulk()).thenAnswer(invocation -> new BulkRequestBuilder(client, BulkAction.INSTANCE));
+		when(client.prepareIndex(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+			Object[] arguments = invocation.getArguments();
+			return new IndexRequestBuilder(client, IndexAction.INSTANCE, (String) arguments[0])
+					.setType((String) arguments[1]).setId((String) arguments[2]);
+		});
+		elasticsearchTemplate = new ElasticsearchTemplate(client);
+	}
+
+	@Test
+	public void shouldResubmitOnlyRejectedItems() {
+		// given
+		bulkResponses(new BulkResponse(new BulkItemResponse[] { successfulItem(0),
+				failedItem(1, "2", new EsRejectedExecutionException("queue full")) }, 1L),
+				new BulkResponse(new BulkItemResponse[] { successfulItem(0) }, 1L));
+
+		// when
+		elasticsearchTemplate.bulkIndex(Arrays.asList(indexQuery("1"), indexQuery("2")), RETRY_OPTIONS);
+
+		// then
+		List<BulkRequest> requests = sentBulkRequests(2);
+		assertThat(requests.get(0).numberOfActions(), is(2));
+		assertThat(requests.get(1).numberOfActions(), is(1));
+		assertThat(((IndexRequest) requests.get(1).requests().get(0)).id(), is("2"));
+	}
+
+	@Test
+	public void shouldNotResubmitPermanentFailures() {
+		// given
+		bulkResponses(new BulkResponse(new BulkItemResponse[] { successfulItem(0),
+				failedItem(1, "2", new IllegalArgumentException("mapping failure")) }, 1L));
+
+		// when
+		try {
+			elasticsearchTemplate.bulkIndex(Arrays.asList(indexQuery("1"), indexQuery("2")), RETRY_OPTIONS);
+			fail("expected ElasticsearchException");
+		} catch (ElasticsearchException e) {
+			// then
+			assertThat(e.getFailedDocuments().keySet(), is(Collections.singleton("2")));
+		}
+		sentBulkRequests(1);
+	}
+
+	@Test
+	public void shouldReportRejectedItemsOnceBackoffIsExhausted() {
+		// given
+		BulkResponse rejected = new BulkResponse(
+				new BulkItemResponse[] { failedItem(0, "1", new EsRejectedExecutionException("queue full")) }, 1L);
+		bulkResponses(rejected, rejected, rejected);
+
+		// when
+		try {
+			elasticsearchTemplate.bulkIndex(Arrays.asList(indexQuery("1")), RETRY_OPTIONS);
+			fail("expected ElasticsearchException");
+		} catch (ElasticsearchException e) {
+			// then
+			assertThat(e.getFailedDocuments().keySet(), is(Collections.singleton("1")));
+		}
+		sentBulkRequests(3);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void bulkResponses(BulkResponse first, BulkResponse... others) {
+		ActionFuture<BulkResponse> future = mock(ActionFuture.class);
+		when(future.actionGet()).thenReturn(first, others);
+		when(client.bulk(Mockito.any(BulkRequest.class))).thenReturn(future);
+	}
+
+	private List<BulkRequest> sentBulkRequests(int expectedCount) {
+		ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+		verify(client, times(expectedCount)).bulk(captor.capture());
+		return captor.getAllValues();
+	}
+
+	private static IndexQuery indexQuery(String id) {
+		return new IndexQueryBuilder().withIndexName("test-index").withType("test-type").withId(id)
+				.withSource("{\"message\":\"some message\"}").build();
+	}
+
+	private static BulkItemResponse successfulItem(int itemId) {
+		BulkItemResponse item = mock(BulkItemResponse.class);
+		when(item.getItemId()).thenReturn(itemId);
+		when(item.isFailed()).thenReturn(false);
+		return item;
+	}
+
+	private static BulkItemResponse failedItem(int itemId, String id, Exception cause) {
+		BulkItemResponse item = mock(BulkItemResponse.class);
+		when(item.getItemId()).thenReturn(itemId);
+		when(item.getId()).thenReturn(id);
+		when(item.isFailed()).thenReturn(true);
+		when(item.getFailure()).thenReturn(new BulkItemResponse.Failure("test-index", "test-type", id, cause));
+		when(item.getFailureMessage()).thenReturn(cause.getMessage());
+		return item;
+	}
+}
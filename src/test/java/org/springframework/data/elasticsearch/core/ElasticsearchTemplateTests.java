@@ -19,10 +19,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.apache.commons.lang.StringUtils;
 import org.elasticsearch.action.get.MultiGetItemResponse;
 import org.elasticsearch.action.get.MultiGetResponse;
@@ -46,6 +49,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.ElasticsearchException;
 import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
 import org.springframework.data.elasticsearch.core.aggregation.AggregatedPage;
 import org.springframework.data.elasticsearch.core.aggregation.impl.AggregatedPageImpl;
 import org.springframework.data.elasticsearch.core.query.*;
@@ -131,6 +135,51 @@ public class ElasticsearchTemplateTests {
 		assertThat(count, is(equalTo(1L)));
 	}
 
+	@Test
+	public void shouldMakeIndexedDocumentSearchableWithImmediateRefreshPolicy() {
+		// given
+		SampleEntity sampleEntity = SampleEntity.builder().id(randomNumeric(5)).message("some message")
+				.version(System.currentTimeMillis()).build();
+		IndexQuery indexQuery = new IndexQueryBuilder().withId(sampleEntity.getId()).withObject(sampleEntity)
+				.withRefreshPolicy(RefreshPolicy.IMMEDIATE).build();
+
+		// when
+		elasticsearchTemplate.index(indexQuery);
+
+		// then
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).build();
+		assertThat(elasticsearchTemplate.count(searchQuery, SampleEntity.class), is(equalTo(1L)));
+	}
+
+	@Test
+	public void shouldMakeBulkIndexedDocumentsSearchableWithWaitUntilRefreshPolicy() {
+		// given
+		// WAIT_UNTIL never returns for test-index-sample, which disables the periodic refresh
+		String indexName = "test-index-wait-until-refresh-policy";
+		elasticsearchTemplate.deleteIndex(indexName);
+		elasticsearchTemplate.createIndex(indexName, Collections.singletonMap("index.refresh_interval", "200ms"));
+		SampleEntity sampleEntity1 = SampleEntity.builder().id(randomNumeric(5)).message("some message")
+				.version(System.currentTimeMillis()).build();
+		SampleEntity sampleEntity2 = SampleEntity.builder().id(randomNumeric(5)).message("some message")
+				.version(System.currentTimeMillis()).build();
+		List<IndexQuery> indexQueries = Arrays.asList(
+				new IndexQueryBuilder().withId(sampleEntity1.getId()).withObject(sampleEntity1).withIndexName(indexName)
+						.withType(TYPE_NAME).withRefreshPolicy(RefreshPolicy.WAIT_UNTIL).build(),
+				new IndexQueryBuilder().withId(sampleEntity2.getId()).withObject(sampleEntity2).withIndexName(indexName)
+						.withType(TYPE_NAME).withRefreshPolicy(RefreshPolicy.WAIT_UNTIL).build());
+
+		try {
+			// when
+			elasticsearchTemplate.bulkIndex(indexQueries);
+
+			// then
+			assertThat(elasticsearchTemplate.getClient().prepareSearch(indexName).setSize(0).get().getHits()
+					.getTotalHits(), is(equalTo(2L)));
+		} finally {
+			elasticsearchTemplate.deleteIndex(indexName);
+		}
+	}
+
 	@Test
 	public void shouldReturnObjectForGivenId() {
 		// given
@@ -176,6 +225,64 @@ public class ElasticsearchTemplateTests {
 		assertEquals(sampleEntities.get(1), sampleEntity2);
 	}
 
+	@Test
+	public void shouldReturnObjectsInRequestOrderWithNullForMissingIds() {
+		// given
+		String documentId = randomNumeric(5);
+		SampleEntity sampleEntity1 = SampleEntity.builder().id(documentId).message("some message")
+				.version(System.currentTimeMillis()).build();
+		String documentId2 = randomNumeric(5);
+		SampleEntity sampleEntity2 = SampleEntity.builder().id(documentId2).message("some message")
+				.version(System.currentTimeMillis()).build();
+
+		elasticsearchTemplate.bulkIndex(getIndexQueries(Arrays.asList(sampleEntity1, sampleEntity2)));
+		elasticsearchTemplate.refresh(SampleEntity.class);
+
+		// when
+		SearchQuery query = new NativeSearchQueryBuilder()
+				.withIds(Arrays.asList(documentId2, "missing-" + documentId, documentId)).build();
+		List<SampleEntity> sampleEntities = elasticsearchTemplate.multiGetInOrder(query, SampleEntity.class);
+		// then
+		assertThat(sampleEntities.size(), is(equalTo(3)));
+		assertEquals(sampleEntities.get(0), sampleEntity2);
+		assertThat(sampleEntities.get(1), is(nullValue()));
+		assertEquals(sampleEntities.get(2), sampleEntity1);
+	}
+
+	@Test
+	public void shouldMergeChunkedMultiGetInRequestOrder() {
+		// given
+		List<SampleEntity> entities = new ArrayList<>();
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			SampleEntity sampleEntity = SampleEntity.builder().id(randomNumeric(5) + "-" + i).message("message " + i)
+					.version(System.currentTimeMillis()).build();
+			entities.add(sampleEntity);
+			ids.add(0, sampleEntity.getId());
+		}
+		elasticsearchTemplate.bulkIndex(getIndexQueries(entities));
+		elasticsearchTemplate.refresh(SampleEntity.class);
+
+		// when
+		elasticsearchTemplate.setMultiGetChunkSize(2);
+		List<SampleEntity> sampleEntities;
+		List<SampleEntity> asyncSampleEntities;
+		try {
+			SearchQuery query = new NativeSearchQueryBuilder().withIds(ids).build();
+			sampleEntities = elasticsearchTemplate.multiGetInOrder(query, SampleEntity.class);
+			asyncSampleEntities = elasticsearchTemplate.multiGetInOrderAsync(query, SampleEntity.class).join();
+		} finally {
+			elasticsearchTemplate.setMultiGetChunkSize(ElasticsearchTemplate.DEFAULT_MULTI_GET_CHUNK_SIZE);
+		}
+
+		// then
+		assertThat(sampleEntities.size(), is(equalTo(5)));
+		for (int i = 0; i < 5; i++) {
+			assertEquals(entities.get(4 - i), sampleEntities.get(i));
+		}
+		assertThat(asyncSampleEntities, is(equalTo(sampleEntities)));
+	}
+
 	@Test
 	public void shouldReturnObjectsForGivenIdsUsingMultiGetWithFields() {
 		// given
@@ -242,6 +349,26 @@ public class ElasticsearchTemplateTests {
 		assertThat(sampleEntities.getTotalElements(), greaterThanOrEqualTo(1L));
 	}
 
+	@Test
+	public void shouldMapSourceOfSearchHits() {
+		// given
+		String documentId = randomNumeric(5);
+		SampleEntity sampleEntity = SampleEntity.builder().id(documentId).message("some message").rate(7)
+				.version(System.currentTimeMillis()).build();
+
+		elasticsearchTemplate.index(getIndexQuery(sampleEntity));
+		elasticsearchTemplate.refresh(SampleEntity.class);
+
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(idsQuery().addIds(documentId)).build();
+		// when
+		Page<SampleEntity> sampleEntities = elasticsearchTemplate.queryForPage(searchQuery, SampleEntity.class);
+		// then
+		assertThat(sampleEntities.getContent().size(), is(1));
+		assertThat(sampleEntities.getContent().get(0).getId(), is(documentId));
+		assertThat(sampleEntities.getContent().get(0).getMessage(), is("some message"));
+		assertThat(sampleEntities.getContent().get(0).getRate(), is(7));
+	}
+
 	@Test
 	public void shouldDoBulkIndex() {
 		// given
@@ -362,6 +489,31 @@ public class ElasticsearchTemplateTests {
 		assertThat(sampleEntities.getTotalElements(), equalTo(0L));
 	}
 
+	@Test
+	public void shouldDeleteAllMatchingDocumentsPageByPage() {
+		// given
+		List<IndexQuery> indexQueries = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			SampleEntity sampleEntity = SampleEntity.builder().id(String.valueOf(i)).message(i % 5 == 0 ? "keep" : "delete")
+					.version(System.currentTimeMillis()).build();
+			indexQueries.add(getIndexQuery(sampleEntity));
+		}
+		elasticsearchTemplate.bulkIndex(indexQueries);
+		elasticsearchTemplate.refresh(SampleEntity.class);
+
+		// when
+		DeleteQuery deleteQuery = new DeleteQuery();
+		deleteQuery.setQuery(termQuery("message", "delete"));
+		deleteQuery.setPageSize(3);
+		deleteQuery.setRefreshPolicy(RefreshPolicy.IMMEDIATE);
+		long deleted = elasticsearchTemplate.delete(deleteQuery, SampleEntity.class);
+
+		// then
+		assertThat(deleted, is(20L));
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).build();
+		assertThat(elasticsearchTemplate.count(searchQuery, SampleEntity.class), is(5L));
+	}
+
 	@Test
 	public void shouldFilterSearchResultsForGivenFilter() {
 		// given
@@ -988,6 +1140,66 @@ public class ElasticsearchTemplateTests {
 		assertThat(sampleEntities.size(), is(equalTo(30)));
 	}
 
+	@Test
+	public void shouldReturnResultsWithPrefetchingStream() {
+		//given
+		List<IndexQuery> entities = createSampleEntitiesWithMessage("Test message", 30);
+		elasticsearchTemplate.bulkIndex(entities);
+		elasticsearchTemplate.refresh(SampleEntity.class);
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).withIndices(INDEX_NAME)
+				.withTypes(TYPE_NAME).withPageable(new PageRequest(0, 10)).build();
+
+		// when
+		elasticsearchTemplate.setStreamPrefetchPages(2);
+		List<SampleEntity> sampleEntities = new ArrayList<>();
+		try (CloseableIterator<SampleEntity> stream = elasticsearchTemplate.stream(searchQuery, SampleEntity.class)) {
+			while (stream.hasNext()) {
+				sampleEntities.add(stream.next());
+			}
+		} finally {
+			elasticsearchTemplate.setStreamPrefetchPages(0);
+		}
+
+		// then
+		assertThat(sampleEntities.size(), is(equalTo(30)));
+	}
+
+	@Test
+	public void shouldReturnAllResultsOnceWithSlicedStreams() {
+		//given
+		List<IndexQuery> entities = createSampleEntitiesWithMessage("Test message", 30);
+		elasticsearchTemplate.bulkIndex(entities);
+		elasticsearchTemplate.refresh(SampleEntity.class);
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).withIndices(INDEX_NAME)
+				.withTypes(TYPE_NAME).withPageable(new PageRequest(0, 5)).build();
+
+		// when
+		List<CloseableIterator<SampleEntity>> slices = elasticsearchTemplate.streamSlices(searchQuery, SampleEntity.class,
+				3);
+		Set<String> ids = new HashSet<>();
+		int count = 0;
+		for (CloseableIterator<SampleEntity> slice : slices) {
+			try {
+				while (slice.hasNext()) {
+					ids.add(slice.next().getId());
+					count++;
+				}
+			} finally {
+				slice.close();
+			}
+		}
+		long parallelCount;
+		try (Stream<SampleEntity> stream = elasticsearchTemplate.parallelStream(searchQuery, SampleEntity.class, 3)) {
+			parallelCount = stream.count();
+		}
+
+		// then
+		assertThat(slices.size(), is(3));
+		assertThat(count, is(30));
+		assertThat(ids.size(), is(30));
+		assertThat(parallelCount, is(30L));
+	}
+
 	private static List<IndexQuery> createSampleEntitiesWithMessage(String message, int numberOfEntities) {
 		List<IndexQuery> indexQueries = new ArrayList<>();
 		for (int i = 0; i < numberOfEntities; i++) {
@@ -1769,6 +1981,16 @@ public class ElasticsearchTemplateTests {
 		assertThat(count, is(equalTo(1L)));
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectSearchAfterPageRequestOutsideOfCursorPages() {
+		// given
+		SearchQuery searchQuery = new NativeSearchQueryBuilder().withQuery(matchAllQuery())
+				.withPageable(SearchAfterPageRequest.of(1, 10, Sort.by("rate"), new Object[] { 5 })).build();
+
+		// when
+		elasticsearchTemplate.queryForPage(searchQuery, SampleEntity.class);
+	}
+
 	/*
 	DATAES-67
 	*/
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+import org.springframework.data.elasticsearch.core.aggregation.impl.AggregatedPageImpl;
+
+public class PrefetchingScrollIteratorTests {
+
+	private final List<CompletableFuture<ScrolledPage<String>>> requests = new CopyOnWriteArrayList<>();
+	private final List<String> requestedScrollIds = new CopyOnWriteArrayList<>();
+	private final List<String> clearedScrollIds = new CopyOnWriteArrayList<>();
+
+	@Test
+	public void shouldIterateAllPagesInOrderWhilePrefetching() {
+		// given
+		PrefetchingScrollIterator<String> iterator = iterator(page("scroll-1", "a", "b"), 2);
+
+		// when
+		requests.get(0).complete(page("scroll-2", "c"));
+		requests.get(1).complete(page("scroll-3", "d", "e"));
+
+		// then
+		assertThat(requests.size(), is(2));
+		List<String> result = new ArrayList<>();
+		result.add(iterator.next());
+		result.add(iterator.next());
+		result.add(iterator.next());
+		assertThat(requests.size(), is(3));
+		requests.get(2).complete(page("scroll-3"));
+		while (iterator.hasNext()) {
+			result.add(iterator.next());
+		}
+		assertThat(result, contains("a", "b", "c", "d", "e"));
+		assertThat(requestedScrollIds, contains("scroll-1", "scroll-2", "scroll-3"));
+		iterator.close();
+		assertThat(clearedScrollIds, is(empty()));
+	}
+
+	@Test
+	public void shouldNotRequestMorePagesThanBuffered() {
+		// given
+		PrefetchingScrollIterator<String> iterator = iterator(page("scroll-1", "a"), 1);
+
+		// when
+		requests.get(0).complete(page("scroll-1", "b"));
+
+		// then
+		assertThat(requests.size(), is(1));
+		assertThat(iterator.next(), is("a"));
+		assertThat(iterator.next(), is("b"));
+		assertThat(requests.size(), is(2));
+		iterator.close();
+	}
+
+	@Test
+	public void shouldClearScrollOnEarlyClose() {
+		// given
+		PrefetchingScrollIterator<String> iterator = iterator(page("scroll-1", "a", "b"), 1);
+		requests.get(0).complete(page("scroll-2", "c"));
+
+		// when
+		assertThat(iterator.next(), is("a"));
+		iterator.close();
+
+		// then
+		assertThat(clearedScrollIds, contains("scroll-2"));
+	}
+
+	@Test
+	public void shouldClearScrollOnceInFlightRequestCompletesAfterClose() {
+		// given
+		PrefetchingScrollIterator<String> iterator = iterator(page("scroll-1", "a"), 1);
+
+		// when
+		iterator.close();
+		assertThat(clearedScrollIds, is(empty()));
+		requests.get(0).complete(page("scroll-2", "b"));
+
+		// then
+		assertThat(clearedScrollIds, contains("scroll-2"));
+	}
+
+	@Test
+	public void shouldRethrowFailureOfBackgroundRequest() {
+		// given
+		PrefetchingScrollIterator<String> iterator = iterator(page("scroll-1", "a"), 1);
+		requests.get(0).completeExceptionally(new IllegalStateException("failed"));
+
+		// when
+		assertThat(iterator.next(), is("a"));
+		try {
+			iterator.hasNext();
+			fail("expected IllegalStateException");
+		} catch (IllegalStateException e) {
+			// then
+			assertThat(e.getMessage(), is("failed"));
+		}
+		assertThat(clearedScrollIds, contains("scroll-1"));
+	}
+
+	private PrefetchingScrollIterator<String> iterator(ScrolledPage<String> firstPage, int bufferedPages) {
+		return new PrefetchingScrollIterator<>(firstPage, scrollId -> {
+			requestedScrollIds.add(scrollId);
+			CompletableFuture<ScrolledPage<String>> request = new CompletableFuture<>();
+			requests.add(request);
+			return request;
+		}, clearedScrollIds::add, bufferedPages);
+	}
+
+	private static ScrolledPage<String> page(String scrollId, String... hits) {
+		return new AggregatedPageImpl<>(hits.length == 0 ? Collections.<String> emptyList() : Arrays.asList(hits),
+				scrollId);
+	}
+}
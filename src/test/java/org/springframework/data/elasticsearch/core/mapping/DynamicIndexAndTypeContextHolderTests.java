@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.mapping;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.elasticsearch.core.mapping.exception.IndexNotFoundException;
+import org.springframework.data.elasticsearch.entities.DynamicIndexAndType;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+import org.springframework.data.util.ClassTypeInformation;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class DynamicIndexAndTypeContextHolderTests {
+
+    private final DynamicIndexAndTypeContextHolder holder = DynamicIndexAndTypeContextHolder.getInstance();
+
+    @After
+    public void after() {
+        holder.clean();
+    }
+
+    @Test
+    public void shouldDetectDynamicAnnotationsPerClass() {
+        assertThat(DynamicIndexAndTypeContextHolder.isDynamicIndexAnnotated(DynamicIndexAndType.class), is(true));
+        assertThat(DynamicIndexAndTypeContextHolder.isDynamicTypeAnnotated(DynamicIndexAndType.class), is(false));
+        assertThat(DynamicIndexAndTypeContextHolder.isDynamicIndexAnnotated(SampleEntity.class), is(false));
+    }
+
+    @Test
+    public void shouldReuseResolvedNamesForRepeatedTenants() {
+        // given
+        holder.setIndexAndType("tenant", "type");
+
+        // when
+        String first = holder.resolveIndex("test-dynamic", true);
+        String second = holder.resolveIndex("test-dynamic", true);
+
+        // then
+        assertThat(first, is("test-dynamic-tenant"));
+        assertThat(second, is(sameInstance(first)));
+        assertThat(holder.resolveType("test-type-dynamic", true), is("test-type-dynamic-type"));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedTenantsOnceCacheIsFull() {
+        // given
+        holder.setIndexAndType("tenant-hot", null);
+        String hot = holder.resolveIndex("test-dynamic-lru", true);
+        holder.setIndexAndType("tenant-cold", null);
+        String cold = holder.resolveIndex("test-dynamic-lru", true);
+
+        // when
+        for (int i = 0; i < 2 * DynamicIndexAndTypeContextHolder.MAX_CACHED_SUFFIXES; i++) {
+            holder.setIndexAndType("tenant-" + i, null);
+            holder.resolveIndex("test-dynamic-lru", true);
+            holder.setIndexAndType("tenant-hot", null);
+            holder.resolveIndex("test-dynamic-lru", true);
+        }
+        holder.setIndexAndType("tenant-new", null);
+        String first = holder.resolveIndex("test-dynamic-lru", true);
+        String second = holder.resolveIndex("test-dynamic-lru", true);
+
+        // then
+        assertThat(first, is("test-dynamic-lru-tenant-new"));
+        assertThat(second, is(sameInstance(first)));
+        holder.setIndexAndType("tenant-hot", null);
+        assertThat(holder.resolveIndex("test-dynamic-lru", true), is(sameInstance(hot)));
+        holder.setIndexAndType("tenant-cold", null);
+        String resolvedAgain = holder.resolveIndex("test-dynamic-lru", true);
+        assertThat(resolvedAgain, is(cold));
+        assertThat(resolvedAgain, is(not(sameInstance(cold))));
+    }
+
+    @Test
+    public void shouldNotResolveNamesOfStaticEntitiesOrWithoutContext() {
+        assertThat(holder.resolveIndex("test-dynamic", true), is("test-dynamic"));
+
+        holder.setIndexAndType("tenant", null);
+        assertThat(holder.resolveIndex("test-index", false), is("test-index"));
+        assertThat(holder.resolveType("test-type", false), is("test-type"));
+    }
+
+    @Test
+    public void shouldResolveIndexNameOfDynamicPersistentEntity() {
+        // given
+        SimpleElasticsearchPersistentEntity<DynamicIndexAndType> entity = new SimpleElasticsearchPersistentEntity<>(
+                ClassTypeInformation.from(DynamicIndexAndType.class));
+        holder.setIndexAndType("tenant", null);
+
+        // then
+        assertThat(entity.getIndexName(), is("test-dynamic-tenant"));
+        assertThat(entity.getIndexType(), is("test-type-dynamic"));
+    }
+
+    @Test(expected = IndexNotFoundException.class)
+    public void shouldRejectBlankTenantIndex() {
+        holder.setIndexAndType("", null);
+        holder.resolveIndex("test-dynamic", true);
+    }
+
+    @Test
+    public void shouldScopeContextToCallAndRestorePreviousOne() throws Exception {
+        // given
+        holder.setIndexAndType("outer", null);
+
+        // when
+        String resolved = holder.runWithIndexAndType("inner", null, () -> holder.resolveIndex("test-dynamic", true));
+
+        // then
+        assertThat(resolved, is("test-dynamic-inner"));
+        assertThat(holder.current(), is(DynamicIndexAndTypeContext.of("outer", null)));
+    }
+
+    @Test
+    public void shouldClearScopedContextWhenNoneWasSetBefore() {
+        holder.runWithIndexAndType("tenant", null, () -> assertThat(holder.current().getIndex(), is("tenant")));
+
+        assertThat(holder.current(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldKeepCurrentContextWhenNoExplicitContextIsGiven() {
+        holder.setIndexAndType("tenant", null);
+
+        assertThat(holder.withContext(null, () -> holder.resolveIndex("test-dynamic", true)),
+                is("test-dynamic-tenant"));
+    }
+
+    @Test
+    public void shouldNotPropagateContextToChildThreads() throws Exception {
+        // given
+        holder.setIndexAndType("tenant", null);
+        AtomicReference<DynamicIndexAndTypeContext> observed = new AtomicReference<>(DynamicIndexAndTypeContext.of("", ""));
+
+        // when
+        Thread child = new Thread(() -> observed.set(holder.current()));
+        child.start();
+        child.join();
+
+        // then
+        assertThat(observed.get(), is(nullValue()));
+    }
+}
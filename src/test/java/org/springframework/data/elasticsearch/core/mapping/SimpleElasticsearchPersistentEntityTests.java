@@ -15,10 +15,15 @@
  */
 package org.springframework.data.elasticsearch.core.mapping;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
 import java.beans.IntrospectionException;
 
 import org.junit.Test;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.RefreshPolicy;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.model.Property;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
@@ -63,6 +68,59 @@ public class SimpleElasticsearchPersistentEntityTests {
 		entity.addPersistentProperty(persistentProperty2);
 	}
 
+	@Test
+	public void shouldDefaultToImmediateRefreshPolicy() {
+		// given
+		TypeInformation typeInformation = ClassTypeInformation.from(EntityWithDefaultRefreshPolicy.class);
+
+		// when
+		SimpleElasticsearchPersistentEntity<EntityWithDefaultRefreshPolicy> entity = new SimpleElasticsearchPersistentEntity<>(
+				typeInformation);
+
+		// then
+		assertThat(entity.getRefreshPolicy(), is(RefreshPolicy.IMMEDIATE));
+	}
+
+	@Test
+	public void shouldDefaultToImmediateRefreshPolicyWithoutDocumentAnnotation() {
+		// given
+		TypeInformation typeInformation = ClassTypeInformation.from(EntityWithoutDocumentAnnotation.class);
+
+		// when
+		SimpleElasticsearchPersistentEntity<EntityWithoutDocumentAnnotation> entity = new SimpleElasticsearchPersistentEntity<>(
+				typeInformation);
+
+		// then
+		assertThat(entity.getRefreshPolicy(), is(RefreshPolicy.IMMEDIATE));
+	}
+
+	@Test
+	public void shouldReadRefreshPolicyFromDocumentAnnotation() {
+		// given
+		TypeInformation typeInformation = ClassTypeInformation.from(EntityWithWaitUntilRefreshPolicy.class);
+
+		// when
+		SimpleElasticsearchPersistentEntity<EntityWithWaitUntilRefreshPolicy> entity = new SimpleElasticsearchPersistentEntity<>(
+				typeInformation);
+
+		// then
+		assertThat(entity.getRefreshPolicy(), is(RefreshPolicy.WAIT_UNTIL));
+	}
+
+	@Test
+	public void shouldResolveLiteralAndExpressionIndexNames() {
+		// given
+		SimpleElasticsearchPersistentEntity<EntityWithDefaultRefreshPolicy> literalEntity = new SimpleElasticsearchPersistentEntity<>(
+				ClassTypeInformation.from(EntityWithDefaultRefreshPolicy.class));
+		SimpleElasticsearchPersistentEntity<EntityWithExpressionIndexName> expressionEntity = new SimpleElasticsearchPersistentEntity<>(
+				ClassTypeInformation.from(EntityWithExpressionIndexName.class));
+
+		// then
+		assertThat(literalEntity.getIndexName(), is("test-index-default-refresh-policy"));
+		assertThat(expressionEntity.getIndexName(), is("test-index-expression"));
+		assertThat(expressionEntity.getIndexType(), is("type-expression"));
+	}
+
 	private static SimpleElasticsearchPersistentProperty createProperty(SimpleElasticsearchPersistentEntity<?> entity,
 			String field) {
 
@@ -105,4 +163,15 @@ public class SimpleElasticsearchPersistentEntityTests {
 			this.version2 = version2;
 		}
 	}
+
+	@Document(indexName = "test-index-default-refresh-policy")
+	private class EntityWithDefaultRefreshPolicy {}
+
+	@Document(indexName = "test-index-wait-until-refresh-policy", refreshPolicy = RefreshPolicy.WAIT_UNTIL)
+	private class EntityWithWaitUntilRefreshPolicy {}
+
+	private class EntityWithoutDocumentAnnotation {}
+
+	@Document(indexName = "#{'test-index-' + 'expression'}", type = "#{'type-' + 'expression'}")
+	private class EntityWithExpressionIndexName {}
 }
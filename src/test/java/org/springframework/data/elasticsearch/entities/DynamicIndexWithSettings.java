@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.repository.support.DynamicIndex;
+
+/**
+ * Dynamic index entity with custom shard settings and a typed field, neither of which Elasticsearch would apply when
+ * auto-creating the index.
+ */
+@DynamicIndex
+@Document(indexName = "test-dynamic-settings", type = "test-type-dynamic-settings", shards = 1, replicas = 0,
+		createIndex = false)
+public class DynamicIndexWithSettings {
+
+	@Id
+	private String id;
+	@Field(type = FieldType.keyword)
+	private String name;
+
+	public DynamicIndexWithSettings() {}
+
+	public DynamicIndexWithSettings(String id, String name) {
+		this.id = id;
+		this.name = name;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+}
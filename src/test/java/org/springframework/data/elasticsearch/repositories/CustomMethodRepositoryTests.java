@@ -30,7 +30,9 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.CursorPage;
 import org.springframework.data.elasticsearch.core.ElasticsearchTemplate;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 import org.springframework.data.elasticsearch.entities.SampleEntity;
@@ -663,6 +665,58 @@ public class CustomMethodRepositoryTests {
 		assertThat(stream.count(), is(equalTo(30L)));
 	}
 
+	@Test
+	public void shouldStreamInBatchesConfiguredThroughScrollAnnotation() {
+		// given
+		List<SampleEntity> entities = createSampleEntities("abc", 30);
+		repository.saveAll(entities);
+
+		// when
+		Stream<SampleEntity> stream = repository.streamByType("abc");
+		// then
+		assertThat(stream.count(), is(equalTo(30L)));
+	}
+
+	@Test
+	public void shouldAllowReturningJava8StreamInAnnotatedQuery() {
+		// given
+		List<SampleEntity> entities = createSampleEntities("abc", 30);
+		repository.saveAll(entities);
+
+		// when
+		Stream<SampleEntity> stream = repository.streamByTypeQuery("abc");
+		// then
+		assertThat(stream.count(), is(equalTo(30L)));
+	}
+
+	@Test
+	public void shouldPageThroughCursorPagesInCustomMethod() {
+		// given
+		List<SampleEntity> entities = createSampleEntities("abc", 25);
+		for (int i = 0; i < entities.size(); i++) {
+			entities.get(i).setRate(i);
+		}
+		repository.saveAll(entities);
+
+		// when
+		List<Integer> rates = new ArrayList<>();
+		int pages = 0;
+		Pageable pageable = new PageRequest(0, 10);
+		while (pageable.isPaged()) {
+			CursorPage<SampleEntity> page = repository.findByTypeOrderByRateAsc("abc", pageable);
+			page.forEach(entity -> rates.add(entity.getRate()));
+			pageable = page.nextPageable();
+			pages++;
+		}
+
+		// then
+		assertThat(pages, is(3));
+		assertThat(rates.size(), is(25));
+		for (int i = 0; i < rates.size(); i++) {
+			assertThat(rates.get(i), is(i));
+		}
+	}
+
 	/*
 	DATAES-106
 	 */
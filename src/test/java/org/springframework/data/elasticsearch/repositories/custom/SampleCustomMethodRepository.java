@@ -21,6 +21,8 @@ import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.annotations.Query;
+import org.springframework.data.elasticsearch.annotations.Scroll;
+import org.springframework.data.elasticsearch.core.CursorPage;
 import org.springframework.data.elasticsearch.core.geo.GeoBox;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 import org.springframework.data.elasticsearch.entities.SampleEntity;
@@ -48,6 +50,8 @@ public interface SampleCustomMethodRepository extends ElasticsearchRepository<Sa
 
 	Page<SampleEntity> findByAvailable(boolean available, Pageable pageable);
 
+	CursorPage<SampleEntity> findByTypeOrderByRateAsc(String type, Pageable pageable);
+
 	Page<SampleEntity> findByRateLessThan(int rate, Pageable pageable);
 
 	Page<SampleEntity> findByRateBefore(int rate, Pageable pageable);
@@ -90,6 +94,13 @@ public interface SampleCustomMethodRepository extends ElasticsearchRepository<Sa
 
 	Stream<SampleEntity> findByType(String type);
 
+	@Scroll(batchSize = 5, keepAlive = "30s")
+	Stream<SampleEntity> streamByType(String type);
+
+	@Query("{\"bool\" : {\"must\" : {\"term\" : {\"type\" : \"?0\"}}}}")
+	@Scroll(batchSize = 5)
+	Stream<SampleEntity> streamByTypeQuery(String type);
+
 	long countByType(String type);
 
 	long countByTypeNot(String type);
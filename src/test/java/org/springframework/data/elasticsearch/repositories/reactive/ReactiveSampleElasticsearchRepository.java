@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repositories.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.elasticsearch.annotations.Query;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+import org.springframework.data.elasticsearch.repository.ReactiveElasticsearchRepository;
+
+public interface ReactiveSampleElasticsearchRepository extends ReactiveElasticsearchRepository<SampleEntity, String> {
+
+	Flux<SampleEntity> findByMessage(String message);
+
+	Mono<Long> countByMessage(String message);
+
+	@Query("{\"bool\" : {\"must\" : {\"term\" : {\"type\" : \"?0\"}}}}")
+	Flux<SampleEntity> findByTypeUsingQuery(String type);
+}
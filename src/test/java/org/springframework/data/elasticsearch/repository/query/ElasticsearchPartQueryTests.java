@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+import org.springframework.data.util.CloseableIterator;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ElasticsearchPartQueryTests {
+
+	@Mock
+	private ElasticsearchOperations operations;
+	@Mock
+	private CloseableIterator<SampleEntity> iterator;
+
+	@Before
+	public void before() {
+		when(operations.getElasticsearchConverter())
+				.thenReturn(new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
+	}
+
+	@Test
+	public void shouldScrollStreamQueryWithAnnotatedOptions() throws NoSuchMethodException {
+		// when
+		executeStream("streamByType");
+
+		// then
+		CriteriaQuery query = streamedQuery();
+		assertThat(query.getPageable(), is(PageRequest.of(0, 5)));
+		assertThat(query.getScrollTimeInMillis(), is(30000L));
+	}
+
+	@Test
+	public void shouldScrollStreamQueryWithTemplateDefaultsWithoutAnnotation() throws NoSuchMethodException {
+		// when
+		executeStream("findByType");
+
+		// then
+		CriteriaQuery query = streamedQuery();
+		assertThat(query.getPageable().isUnpaged(), is(true));
+		assertThat(query.getScrollTimeInMillis(), is(nullValue()));
+	}
+
+	@Test
+	public void shouldReturnDeletedCountWithoutLoadingMatches() throws NoSuchMethodException {
+		// given
+		when(operations.delete(Mockito.any(CriteriaQuery.class), eq(SampleEntity.class))).thenReturn(3L);
+		ElasticsearchPartQuery partQuery = new ElasticsearchPartQuery(
+				ElasticsearchQueryMethodTests.queryMethod("deleteByType"), operations);
+
+		// when
+		Object result = partQuery.execute(new Object[] { "test" });
+
+		// then
+		assertThat(result, is(3L));
+		verify(operations, never()).stream(Mockito.any(CriteriaQuery.class), eq(SampleEntity.class));
+		verify(operations, never()).count(Mockito.any(CriteriaQuery.class), eq(SampleEntity.class));
+	}
+
+	private void executeStream(String methodName) throws NoSuchMethodException {
+		when(operations.stream(Mockito.any(CriteriaQuery.class), eq(SampleEntity.class))).thenReturn(iterator);
+		ElasticsearchPartQuery partQuery = new ElasticsearchPartQuery(
+				ElasticsearchQueryMethodTests.queryMethod(methodName), operations);
+		try (Stream<?> stream = (Stream<?>) partQuery.execute(new Object[] { "test" })) {
+			assertThat(stream.count(), is(0L));
+		}
+	}
+
+	private CriteriaQuery streamedQuery() {
+		ArgumentCaptor<CriteriaQuery> query = ArgumentCaptor.forClass(CriteriaQuery.class);
+		verify(operations).stream(query.capture(), eq(SampleEntity.class));
+		return query.getValue();
+	}
+}
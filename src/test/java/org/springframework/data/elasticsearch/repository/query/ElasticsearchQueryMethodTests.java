@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.springframework.data.elasticsearch.annotations.Scroll;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+public class ElasticsearchQueryMethodTests {
+
+	@Test
+	public void shouldReadScrollOptionsFromAnnotation() throws NoSuchMethodException {
+		// when
+		ElasticsearchQueryMethod queryMethod = queryMethod("streamByType");
+
+		// then
+		assertThat(queryMethod.getScrollBatchSize(), is(5));
+		assertThat(queryMethod.getScrollTimeInMillis(), is(30000L));
+	}
+
+	@Test
+	public void shouldFallBackToTemplateDefaultsForMissingKeepAlive() throws NoSuchMethodException {
+		// when
+		ElasticsearchQueryMethod queryMethod = queryMethod("streamByMessage");
+
+		// then
+		assertThat(queryMethod.getScrollBatchSize(), is(5));
+		assertThat(queryMethod.getScrollTimeInMillis(), is(nullValue()));
+	}
+
+	@Test
+	public void shouldFallBackToTemplateDefaultsWithoutAnnotation() throws NoSuchMethodException {
+		// when
+		ElasticsearchQueryMethod queryMethod = queryMethod("findByType");
+
+		// then
+		assertThat(queryMethod.getScrollBatchSize(), is(-1));
+		assertThat(queryMethod.getScrollTimeInMillis(), is(nullValue()));
+	}
+
+	static ElasticsearchQueryMethod queryMethod(String name) throws NoSuchMethodException {
+		return new ElasticsearchQueryMethod(SampleScrollRepository.class.getMethod(name, String.class),
+				new DefaultRepositoryMetadata(SampleScrollRepository.class), new SpelAwareProxyProjectionFactory());
+	}
+
+	interface SampleScrollRepository extends Repository<SampleEntity, String> {
+
+		Stream<SampleEntity> findByType(String type);
+
+		@Scroll(batchSize = 5, keepAlive = "30s")
+		Stream<SampleEntity> streamByType(String type);
+
+		@Scroll(batchSize = 5)
+		Stream<SampleEntity> streamByMessage(String message);
+
+		long deleteByType(String type);
+	}
+}
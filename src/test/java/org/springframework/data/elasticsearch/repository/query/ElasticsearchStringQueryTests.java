@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.annotations.Query;
+import org.springframework.data.elasticsearch.core.CursorPage;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ElasticsearchStringQueryTests {
+
+	private static final String QUERY = "{\"bool\" : {\"must\" : {\"term\" : {\"type\" : \"?0\"}}}}";
+
+	@Mock
+	private ElasticsearchOperations operations;
+
+	@Test
+	public void shouldRejectCursorPageReturnTypeOnCreation() throws NoSuchMethodException {
+		try {
+			// when
+			new ElasticsearchStringQuery(queryMethod("findCursorPageByType"), operations, QUERY);
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// then
+			assertThat(e.getMessage(), containsString("findCursorPageByType"));
+			assertThat(e.getMessage(), containsString("CursorPage"));
+		}
+	}
+
+	@Test
+	public void shouldAcceptPageReturnType() throws NoSuchMethodException {
+		// when
+		ElasticsearchStringQuery query = new ElasticsearchStringQuery(queryMethod("findPageByType"), operations, QUERY);
+
+		// then
+		assertThat(query.getQueryMethod().isPageQuery(), is(true));
+	}
+
+	private static ElasticsearchQueryMethod queryMethod(String name) throws NoSuchMethodException {
+		return new ElasticsearchQueryMethod(SampleStringQueryRepository.class.getMethod(name, String.class, Pageable.class),
+				new DefaultRepositoryMetadata(SampleStringQueryRepository.class), new SpelAwareProxyProjectionFactory());
+	}
+
+	interface SampleStringQueryRepository extends Repository<SampleEntity, String> {
+
+		@Query(QUERY)
+		CursorPage<SampleEntity> findCursorPageByType(String type, Pageable pageable);
+
+		@Query(QUERY)
+		Page<SampleEntity> findPageByType(String type, Pageable pageable);
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import static org.apache.commons.lang.RandomStringUtils.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.entities.SampleEntity;
+import org.springframework.data.elasticsearch.repositories.reactive.ReactiveSampleElasticsearchRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration("classpath:elasticsearch-template-test.xml")
+public class ReactiveElasticsearchRepositoryTests {
+
+	@Autowired
+	private ElasticsearchTemplate elasticsearchTemplate;
+
+	private ReactiveSampleElasticsearchRepository repository;
+
+	@Before
+	public void before() {
+		elasticsearchTemplate.deleteIndex(SampleEntity.class);
+		repository = new ReactiveElasticsearchRepositoryFactory(elasticsearchTemplate)
+				.getRepository(ReactiveSampleElasticsearchRepository.class);
+		elasticsearchTemplate.refresh(SampleEntity.class);
+	}
+
+	@Test
+	public void shouldSaveAndFindEntityById() {
+		// given
+		String documentId = randomNumeric(5);
+		SampleEntity sampleEntity = SampleEntity.builder().id(documentId).message("some message")
+				.version(System.currentTimeMillis()).build();
+
+		// when
+		repository.save(sampleEntity).block();
+
+		// then
+		assertThat(repository.findById(documentId).block(), is(sampleEntity));
+		assertThat(repository.existsById(documentId).block(), is(true));
+		assertThat(repository.existsById(randomNumeric(6)).block(), is(false));
+	}
+
+	@Test
+	public void shouldStreamAllEntitiesOnDemand() {
+		// given
+		List<SampleEntity> entities = Arrays.asList(
+				SampleEntity.builder().id("1").message("abc").rate(10).version(System.currentTimeMillis()).build(),
+				SampleEntity.builder().id("2").message("bcd").rate(20).version(System.currentTimeMillis()).build(),
+				SampleEntity.builder().id("3").message("abc").rate(30).version(System.currentTimeMillis()).build());
+		repository.saveAll(entities).blockLast();
+		repository.refresh().block();
+
+		// when
+		List<SampleEntity> sorted = repository.findAll(Sort.by(Sort.Direction.DESC, "rate")).collectList().block();
+		SampleEntity first = repository.findAll().take(1).blockFirst();
+
+		// then
+		assertThat(sorted.size(), is(3));
+		assertThat(sorted.get(0).getRate(), is(30));
+		assertThat(first, is(notNullValue()));
+		assertThat(repository.count().block(), is(3L));
+	}
+
+	@Test
+	public void shouldScrollOffTheSubscribingThread() {
+		// given
+		repository.save(SampleEntity.builder().id("1").message("abc").version(System.currentTimeMillis()).build()).block();
+		repository.refresh().block();
+
+		// when
+		String thread = repository.findAll().map(entity -> Thread.currentThread().getName()).blockFirst();
+
+		// then
+		assertThat(thread, is(not(Thread.currentThread().getName())));
+		assertThat(thread, startsWith("elastic-"));
+	}
+
+	@Test
+	public void shouldExecuteDerivedAndAnnotatedQueries() {
+		// given
+		repository.saveAll(Arrays.asList(
+				SampleEntity.builder().id("1").type("test").message("abc").version(System.currentTimeMillis()).build(),
+				SampleEntity.builder().id("2").type("other").message("abc").version(System.currentTimeMillis()).build()))
+				.blockLast();
+		repository.refresh().block();
+
+		// when / then
+		assertThat(repository.findByMessage("abc").collectList().block().size(), is(2));
+		assertThat(repository.countByMessage("abc").block(), is(2L));
+		assertThat(repository.findByTypeUsingQuery("test").collectList().block().size(), is(1));
+	}
+
+	@Test
+	public void shouldDeleteEntities() {
+		// given
+		SampleEntity sampleEntity = SampleEntity.builder().id(randomNumeric(5)).message("some message")
+				.version(System.currentTimeMillis()).build();
+		repository.save(sampleEntity).block();
+		repository.refresh().block();
+
+		// when
+		repository.delete(sampleEntity).block();
+		repository.refresh().block();
+
+		// then
+		assertThat(repository.count().block(), is(0L));
+	}
+}
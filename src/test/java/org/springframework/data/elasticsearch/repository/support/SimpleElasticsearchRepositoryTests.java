@@ -155,6 +155,41 @@ public class SimpleElasticsearchRepositoryTests {
 		assertThat(results, is(notNullValue()));
 	}
 
+	@Test
+	public void shouldScrollThroughAllDocumentsInSortOrder() {
+		// given
+		List<SampleEntity> entities = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			SampleEntity sampleEntity = new SampleEntity();
+			sampleEntity.setId(randomNumeric(5) + "-" + i);
+			sampleEntity.setMessage("message");
+			sampleEntity.setRate(i);
+			sampleEntity.setVersion(System.currentTimeMillis());
+			entities.add(sampleEntity);
+		}
+		repository.saveAll(entities);
+
+		// when
+		Iterable<SampleEntity> results = repository.findAll(new Sort(new Order(DESC, "rate")));
+		List<Integer> rates = new ArrayList<>();
+		results.forEach(entity -> rates.add(entity.getRate()));
+		List<Integer> ratesOfSecondIteration = new ArrayList<>();
+		for (SampleEntity entity : results) {
+			ratesOfSecondIteration.add(entity.getRate());
+		}
+
+		// then
+		assertThat(rates.size(), is(25));
+		assertThat(rates.get(0), is(24));
+		assertThat(rates.get(24), is(0));
+		assertThat(ratesOfSecondIteration, is(rates));
+		int count = 0;
+		for (SampleEntity ignored : repository.search(termQuery("message", "message"))) {
+			count++;
+		}
+		assertThat(count, is(25));
+	}
+
 	@Test
 	public void shouldDeleteDocument() {
 		// given